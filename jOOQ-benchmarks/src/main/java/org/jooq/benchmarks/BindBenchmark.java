@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.Fixtures.BOOK;
+import static org.jooq.benchmarks.Fixtures.BOOK_AUTHOR;
+import static org.jooq.benchmarks.Fixtures.ID;
+import static org.jooq.benchmarks.Fixtures.IN_STOCK;
+import static org.jooq.benchmarks.Fixtures.PRICE;
+import static org.jooq.benchmarks.Fixtures.PUBLISHED;
+import static org.jooq.benchmarks.Fixtures.TITLE;
+import static org.jooq.benchmarks.Fixtures.UPDATED;
+import static org.jooq.benchmarks.Fixtures.books;
+import static org.jooq.benchmarks.Fixtures.mock;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for binding values to a JDBC <code>PreparedStatement</code>
+ * through <code>DefaultBinding</code>, using a
+ * {@link org.jooq.tools.jdbc.MockConnection}.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+
+    @Param({ "POSTGRES", "H2" })
+    public SQLDialect dialect;
+
+    @Param({ "false", "true" })
+    public boolean    cacheRenderedSQL;
+
+    DSLContext        ctx;
+    Query             insert;
+    PreparedStatement stmt;
+
+    @Setup
+    public void setup() throws SQLException {
+        ctx = mock(dialect, new Settings().withCacheRenderedSQL(cacheRenderedSQL), null);
+        insert = ctx.insertInto(BOOK, ID, BOOK_AUTHOR, TITLE, PRICE, PUBLISHED, UPDATED, IN_STOCK)
+            .valuesOfRecords(books(10));
+        stmt = ctx.configuration().connectionProvider().acquire().prepareStatement(ctx.render(insert));
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws SQLException {
+        stmt.close();
+    }
+
+    /**
+     * Bind 70 values of various types to a statement.
+     */
+    @Benchmark
+    public PreparedStatement bind() {
+        ctx.bindContext(stmt).visit(insert);
+        return stmt;
+    }
+
+    /**
+     * Render, bind and execute a 70 bind value statement.
+     */
+    @Benchmark
+    public int execute() {
+        return insert.execute();
+    }
+}
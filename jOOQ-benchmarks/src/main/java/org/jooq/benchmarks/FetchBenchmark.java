@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.Fixtures.BOOK;
+import static org.jooq.benchmarks.Fixtures.BOOK_FIELDS;
+import static org.jooq.benchmarks.Fixtures.books;
+import static org.jooq.benchmarks.Fixtures.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for materialising records from a JDBC <code>ResultSet</code>
+ * through <code>CursorImpl</code>, using a
+ * {@link org.jooq.tools.jdbc.MockConnection}.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FetchBenchmark {
+
+    @Param({ "100", "10000" })
+    public int                    rows;
+
+    /**
+     * The record storage layout, see
+     * {@link Settings#isFetchPrimitiveRecordValues()} and
+     * {@link Settings#isFetchColumnarResults()}.
+     */
+    @Param({ "ROWS", "PRIMITIVE", "COLUMNAR" })
+    public String                 layout;
+
+    DSLContext                    ctx;
+    ResultQuery<Record>           query;
+
+    @Setup
+    public void setup() {
+        ctx = mock(SQLDialect.POSTGRES, new Settings()
+            .withFetchPrimitiveRecordValues(!"ROWS".equals(layout))
+            .withFetchColumnarResults("COLUMNAR".equals(layout)), books(rows));
+        query = ctx.select(BOOK_FIELDS).from(BOOK);
+    }
+
+    @Benchmark
+    public Result<Record> fetch() {
+        return query.fetch();
+    }
+
+    @Benchmark
+    public void fetchLazy(Blackhole bh) {
+        try (Cursor<Record> cursor = query.fetchLazy()) {
+            for (Record record : cursor)
+                bh.consume(record);
+        }
+    }
+
+    @Benchmark
+    public void fetchIntoPojo(Blackhole bh) {
+        bh.consume(query.fetchInto(Fixtures.BookPojo.class));
+    }
+
+    @Benchmark
+    public void fetchIntoRecord(Blackhole bh) {
+        bh.consume(query.fetchInto(Fixtures.BookRecord.class));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+import static org.jooq.impl.SQLDataType.BIGINT;
+import static org.jooq.impl.SQLDataType.BOOLEAN;
+import static org.jooq.impl.SQLDataType.INTEGER;
+import static org.jooq.impl.SQLDataType.LOCALDATE;
+import static org.jooq.impl.SQLDataType.LOCALDATETIME;
+import static org.jooq.impl.SQLDataType.NUMERIC;
+import static org.jooq.impl.SQLDataType.VARCHAR;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record7;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * Shared schema and data for the benchmarks.
+ * <p>
+ * All data is generated from a fixed seed, so runs are reproducible without
+ * any database.
+ *
+ * @author Lukas Eder
+ */
+final class Fixtures {
+
+    static final Table<Record>          AUTHOR       = table(name("author"));
+    static final Field<Long>            AUTHOR_ID    = field(name("author", "id"), BIGINT);
+    static final Field<String>          AUTHOR_NAME  = field(name("author", "name"), VARCHAR(100));
+
+    static final Table<Record>          BOOK         = table(name("book"));
+    static final Field<Integer>         ID           = field(name("book", "id"), INTEGER);
+    static final Field<Long>            BOOK_AUTHOR  = field(name("book", "author_id"), BIGINT);
+    static final Field<String>          TITLE        = field(name("book", "title"), VARCHAR(400));
+    static final Field<BigDecimal>      PRICE        = field(name("book", "price"), NUMERIC(10, 2));
+    static final Field<LocalDate>       PUBLISHED    = field(name("book", "published"), LOCALDATE);
+    static final Field<LocalDateTime>   UPDATED      = field(name("book", "updated"), LOCALDATETIME);
+    static final Field<Boolean>         IN_STOCK     = field(name("book", "in_stock"), BOOLEAN);
+
+    static final Field<?>[]             BOOK_FIELDS  = { ID, BOOK_AUTHOR, TITLE, PRICE, PUBLISHED, UPDATED, IN_STOCK };
+
+    private Fixtures() {}
+
+    /**
+     * Generate <code>rows</code> deterministic book records.
+     */
+    static Result<Record7<Integer, Long, String, BigDecimal, LocalDate, LocalDateTime, Boolean>> books(int rows) {
+        DSLContext ctx = DSL.using(SQLDialect.DEFAULT);
+        Random random = new Random(42L);
+        Result<Record7<Integer, Long, String, BigDecimal, LocalDate, LocalDateTime, Boolean>> result =
+            ctx.newResult(ID, BOOK_AUTHOR, TITLE, PRICE, PUBLISHED, UPDATED, IN_STOCK);
+
+        for (int i = 0; i < rows; i++)
+            result.add(ctx.newRecord(ID, BOOK_AUTHOR, TITLE, PRICE, PUBLISHED, UPDATED, IN_STOCK).values(
+                i,
+                (long) random.nextInt(1000),
+                "Title \"" + i + "\", vol. " + random.nextInt(10),
+                BigDecimal.valueOf(random.nextInt(100000), 2),
+                LocalDate.of(1950, 1, 1).plusDays(random.nextInt(25000)),
+                LocalDateTime.of(2020, 1, 1, 0, 0).plusSeconds(random.nextInt(100000000)),
+                random.nextBoolean()
+            ));
+
+        return result;
+    }
+
+    /**
+     * A {@link DSLContext} on a {@link MockConnection} that answers every
+     * query with the given result, or with an update count of 1 if there is
+     * no result.
+     */
+    static DSLContext mock(SQLDialect dialect, Settings settings, Result<?> result) {
+        MockResult[] mock = { result == null ? new MockResult(1) : new MockResult(result.size(), result) };
+        return DSL.using(new MockConnection(c -> mock), dialect, settings);
+    }
+
+    /**
+     * A mutable POJO matching the {@link #BOOK} table.
+     */
+    public static class BookPojo {
+        public Integer       id;
+        public Long          authorId;
+        public String        title;
+        public BigDecimal    price;
+        public LocalDate     published;
+        public LocalDateTime updated;
+        public Boolean       inStock;
+    }
+
+    /**
+     * An immutable Java record matching the {@link #BOOK} table.
+     */
+    public record BookRecord(
+        Integer id,
+        Long authorId,
+        String title,
+        BigDecimal price,
+        LocalDate published,
+        LocalDateTime updated,
+        Boolean inStock
+    ) {}
+}
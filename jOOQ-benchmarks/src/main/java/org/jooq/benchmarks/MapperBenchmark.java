@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.Records.mapping;
+import static org.jooq.benchmarks.Fixtures.books;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Record7;
+import org.jooq.Result;
+import org.jooq.benchmarks.Fixtures.BookPojo;
+import org.jooq.benchmarks.Fixtures.BookRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for mapping materialised records to custom types through
+ * <code>DefaultRecordMapper</code>, compared with hand written mappings.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "1000" })
+    public int rows;
+
+    Result<Record7<Integer, Long, String, BigDecimal, LocalDate, LocalDateTime, Boolean>> result;
+
+    @Setup
+    public void setup() {
+        result = books(rows);
+    }
+
+    @Benchmark
+    public List<BookPojo> intoMutablePojo() {
+        return result.into(BookPojo.class);
+    }
+
+    @Benchmark
+    public List<BookRecord> intoJavaRecord() {
+        return result.into(BookRecord.class);
+    }
+
+    @Benchmark
+    public List<BookRecord> mappingJavaRecord() {
+        return result.map(mapping(BookRecord::new));
+    }
+
+    @Benchmark
+    public List<BookRecord> handWritten() {
+        return result.map(r -> new BookRecord(r.value1(), r.value2(), r.value3(), r.value4(), r.value5(), r.value6(), r.value7()));
+    }
+}
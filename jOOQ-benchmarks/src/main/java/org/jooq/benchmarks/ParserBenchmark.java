@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.Parser;
+import org.jooq.Queries;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing SQL strings through <code>ParserImpl</code>.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({ "SIMPLE", "COMPLEX", "DML", "DDL" })
+    public Statement statement;
+
+    Parser           parser;
+
+    @Setup
+    public void setup() {
+        parser = DSL.using(SQLDialect.DEFAULT).parser();
+    }
+
+    @Benchmark
+    public Queries parse() {
+        return parser.parse(statement.sql);
+    }
+
+    public enum Statement {
+        SIMPLE("select id, title from book where id = ?"),
+        COMPLEX("""
+            with recursive t (a, b) as (select 1, 2 union all select a + 1, b * 2 from t where a < 10)
+            select a.name, count(*), max(b.price) over (partition by a.id order by b.published)
+            from book b
+            join author a on b.author_id = a.id
+            left join t on t.a = b.id
+            where b.published > date '2000-01-01'
+            and (b.title like 'A%' or b.title in ('B', 'C', 'D'))
+            and exists (select 1 from author x where x.id = a.id and x.name is not null)
+            group by a.name, a.id, b.price, b.published
+            having count(*) > 1
+            order by 1 desc nulls last
+            offset 20 rows fetch next 10 rows only
+            """),
+        DML("""
+            insert into book (id, author_id, title, price, published, in_stock)
+            values (1, 1, 'a', 1.5, date '2000-01-01', true), (2, 1, 'b', 2.5, date '2000-01-02', false);
+            update book set title = upper(title), price = price * 1.1 where id in (1, 2) and in_stock;
+            delete from book where published < current_date - 365
+            """),
+        DDL("""
+            create table book (
+              id int not null primary key,
+              author_id bigint not null references author,
+              title varchar(400) not null,
+              price decimal(10, 2) default 0,
+              published date,
+              updated timestamp,
+              in_stock boolean,
+              constraint uk_title unique (author_id, title),
+              check (price >= 0)
+            )
+            """);
+
+        final String sql;
+
+        Statement(String sql) {
+            this.sql = sql;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.benchmarks;
+
+import static org.jooq.benchmarks.Fixtures.AUTHOR;
+import static org.jooq.benchmarks.Fixtures.AUTHOR_ID;
+import static org.jooq.benchmarks.Fixtures.AUTHOR_NAME;
+import static org.jooq.benchmarks.Fixtures.BOOK;
+import static org.jooq.benchmarks.Fixtures.BOOK_AUTHOR;
+import static org.jooq.benchmarks.Fixtures.ID;
+import static org.jooq.benchmarks.Fixtures.IN_STOCK;
+import static org.jooq.benchmarks.Fixtures.PRICE;
+import static org.jooq.benchmarks.Fixtures.PUBLISHED;
+import static org.jooq.benchmarks.Fixtures.TITLE;
+import static org.jooq.benchmarks.Fixtures.UPDATED;
+import static org.jooq.benchmarks.Fixtures.books;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.currentLocalDateTime;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.values;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for rendering typical query trees through
+ * <code>DefaultRenderContext</code>.
+ *
+ * @author Lukas Eder
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    @Param({ "POSTGRES", "H2" })
+    public SQLDialect dialect;
+
+    DSLContext        ctx;
+    Query             select;
+    Query             insert;
+    Query             merge;
+
+    @Setup
+    public void setup() {
+        ctx = DSL.using(dialect);
+
+        select = select(AUTHOR_NAME, count(), DSL.max(PRICE))
+            .from(BOOK)
+            .join(AUTHOR).on(BOOK_AUTHOR.eq(AUTHOR_ID))
+            .where(PUBLISHED.gt(DSL.localDate("2000-01-01")))
+            .and(TITLE.like("A%").or(TITLE.in("B", "C", "D")))
+            .and(IN_STOCK.isTrue())
+            .and(BOOK_AUTHOR.in(select(AUTHOR_ID).from(AUTHOR).where(AUTHOR_NAME.isNotNull())))
+            .groupBy(AUTHOR_NAME)
+            .having(count().gt(1))
+            .orderBy(AUTHOR_NAME.desc())
+            .limit(10)
+            .offset(20);
+
+        insert = ctx.insertInto(BOOK, ID, BOOK_AUTHOR, TITLE, PRICE, PUBLISHED, UPDATED, IN_STOCK)
+            .valuesOfRecords(books(10));
+
+        Table<?> s = values(books(1).get(0).valuesRow())
+            .as("s", "id", "author_id", "title", "price", "published", "updated", "in_stock");
+
+        merge = ctx.mergeInto(BOOK)
+            .using(s)
+            .on(ID.eq(s.field("id", Integer.class)))
+            .whenMatchedThenUpdate()
+            .set(TITLE, s.field("title", String.class))
+            .set(UPDATED, currentLocalDateTime())
+            .whenNotMatchedThenInsert(ID, TITLE)
+            .values(s.field("id", Integer.class), s.field("title", String.class));
+    }
+
+    @Benchmark
+    public String renderSelect() {
+        return ctx.render(select);
+    }
+
+    @Benchmark
+    public String renderInsert() {
+        return ctx.render(insert);
+    }
+
+    @Benchmark
+    public String renderMerge() {
+        return ctx.render(merge);
+    }
+
+    @Benchmark
+    public String renderInlined() {
+        return ctx.renderInlined(select);
+    }
+}
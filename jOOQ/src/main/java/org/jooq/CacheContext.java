@@ -48,7 +48,9 @@ import org.jooq.impl.CacheType;
  * caches.
  * <p>
  * It does not live in the context of a parent {@link Scope}, and as such, does
- * not have access to any {@link #data()} from another {@link Scope}.
+ * not have access to any {@link #data()} from another {@link Scope}. It may
+ * however be retained by the provided cache in order to report evictions via
+ * {@link #recordEvictions(long)}.
  *
  * @author Lukas Eder
  */
@@ -58,4 +60,13 @@ public interface CacheContext extends Scope {
      * The cache type for which a cache should be provided.
      */
     CacheType cacheType();
+
+    /**
+     * Report evictions from the provided cache.
+     * <p>
+     * Cache implementations that evict entries on their own, e.g. because they
+     * are bounded, can call this method to make the evictions available via
+     * {@link CacheStatistics#evictions()}.
+     */
+    void recordEvictions(long count);
 }
@@ -58,7 +58,8 @@ public interface CacheProvider {
      * <p>
      * Implementations must ensure that the resulting {@link Map} is thread
      * safe. Two examples of such thread safe maps are {@link ConcurrentMap} or
-     * {@link Collections#synchronizedMap(Map)}.
+     * {@link Collections#synchronizedMap(Map)}. Values are published using
+     * {@link Map#putIfAbsent(Object, Object)}, which should be atomic.
      * <p>
      * A <code>null</code> cache effectively turns off caching for the key.
      */
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import org.jooq.impl.CacheType;
+
+/**
+ * Statistics about one of the internal {@link CacheType} caches of a
+ * {@link Configuration}.
+ * <p>
+ * This can be used to tune the size of bounded caches, e.g. via
+ * {@link org.jooq.conf.Settings#getCacheParsingConnectionLRUCacheSize()}, or to
+ * detect cache thrashing, e.g. caused by dynamic SQL. Statistics are counted
+ * from the moment a cache is first used in a {@link Configuration} and its
+ * derived configurations. The statistics are live, i.e. they keep changing
+ * while the cache is being used.
+ *
+ * @author Lukas Eder
+ */
+public interface CacheStatistics {
+
+    /**
+     * The cache type these statistics are about.
+     */
+    CacheType cacheType();
+
+    /**
+     * The number of entries currently in the cache, or <code>0</code> if the
+     * cache has not been used yet, or if caching is turned off.
+     */
+    long size();
+
+    /**
+     * The number of cache lookups that returned a cached value.
+     */
+    long hits();
+
+    /**
+     * The number of cache lookups that had to compute a value.
+     */
+    long misses();
+
+    /**
+     * The total time in nanoseconds spent computing values on cache misses.
+     */
+    long totalLoadTime();
+
+    /**
+     * The number of entries that were evicted from the cache, as reported by
+     * the {@link CacheProvider} via {@link CacheContext#recordEvictions(long)}.
+     */
+    long evictions();
+
+    /**
+     * The ratio of {@link #hits()} to the total number of lookups, or
+     * <code>1.0</code> if there haven't been any lookups yet.
+     */
+    default double hitRatio() {
+        long hits = hits();
+        long total = hits + misses();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    /**
+     * The average time in nanoseconds spent computing a value on a cache miss,
+     * or <code>0.0</code> if there haven't been any misses yet.
+     */
+    default double averageLoadTime() {
+        long misses = misses();
+        return misses == 0 ? 0.0 : (double) totalLoadTime() / misses;
+    }
+}
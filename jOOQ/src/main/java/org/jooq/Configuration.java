@@ -53,6 +53,7 @@ import javax.sql.DataSource;
 
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.CacheType;
 import org.jooq.impl.DSL;
 import org.jooq.impl.DataSourceConnectionProvider;
 import org.jooq.impl.DefaultConfiguration;
@@ -377,6 +378,15 @@ public interface Configuration extends Serializable {
     @NotNull
     CacheProvider cacheProvider();
 
+    /**
+     * Get the statistics of one of this configuration's internal caches.
+     * <p>
+     * The statistics are shared between this configuration and the
+     * configurations derived from it after the cache was first used.
+     */
+    @NotNull
+    CacheStatistics cacheStatistics(CacheType type);
+
     /**
      * Get this configuration's underlying transaction provider.
      * <p>
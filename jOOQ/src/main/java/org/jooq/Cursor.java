@@ -75,6 +75,11 @@ import org.jetbrains.annotations.Nullable;
  * <p>
  * Note: Unlike usual implementations of {@link Iterable}, a <code>Cursor</code>
  * can only provide one {@link Iterator}!
+ * <p>
+ * The {@link Formattable} methods consume the cursor. Except for
+ * {@link #formatChart()}, they write each record as it is fetched, e.g. to a
+ * {@link java.io.Writer} or {@link java.io.OutputStream}, without
+ * materialising the result in memory.
  *
  * @param <R> The cursor's record type
  * @author Lukas Eder
@@ -453,6 +458,29 @@ public interface Cursor<R extends Record> extends Fields, Iterable<R>, Formattab
      */
     <X, A> X collect(Collector<? super R, A, X> collector) throws DataAccessException;
 
+    /**
+     * Whether this cursor should reuse a single record instance for all the
+     * records that it iterates over.
+     * <p>
+     * By default, a new record is created for each row fetched from the
+     * underlying {@link ResultSet}. When reusing records, the record returned
+     * by this cursor's {@link Iterator}, and thus the record passed to
+     * {@link #stream()}, {@link #collect(Collector)}, or a for-each loop, is
+     * overwritten with the next row's values as soon as the next record is
+     * fetched. Such records must not be retained, e.g. in collections. This
+     * avoids per row allocations in pipelines that immediately transform
+     * each record into another format.
+     * <p>
+     * Methods that return records directly, such as {@link #fetch()},
+     * {@link #fetchNext(int)}, or {@link #fetchNext()}, are not affected by
+     * this flag.
+     *
+     * @param reuseRecords Whether to reuse a single record instance.
+     * @return This cursor.
+     */
+    @NotNull
+    Cursor<R> reuseRecords(boolean reuseRecords);
+
     /**
      * Explicitly close the underlying {@link PreparedStatement} and
      * {@link ResultSet}.
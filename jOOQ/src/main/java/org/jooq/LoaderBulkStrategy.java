@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A strategy to load rows into {@link Loader} target tables using a bulk
+ * loading API other than <code>INSERT</code> statements.
+ * <p>
+ * Bulk loading APIs, such as PostgreSQL's <code>COPY .. FROM STDIN</code> or
+ * MySQL's <code>LOAD DATA LOCAL INFILE</code>, are usually much faster than
+ * even batched, multi row <code>INSERT</code> statements, but are specific to
+ * a dialect and a JDBC driver. If a strategy doesn't
+ * {@link #supports(LoaderBulkContext)} a context, the {@link Loader} falls
+ * back to <code>INSERT</code> statements.
+ *
+ * @author Lukas Eder
+ * @see LoaderOptionsStep#bulkStrategy(LoaderBulkStrategy)
+ * @see LoaderOptionsStep#bulkNative()
+ */
+public interface LoaderBulkStrategy {
+
+    /**
+     * Whether this strategy can load rows in the given context.
+     * <p>
+     * This must not consume any {@link LoaderBulkContext#rows()}.
+     */
+    boolean supports(LoaderBulkContext ctx) throws SQLException;
+
+    /**
+     * Load all {@link LoaderBulkContext#rows()} into the
+     * {@link LoaderBulkContext#table()}.
+     *
+     * @return The number of stored rows.
+     */
+    long load(LoaderBulkContext ctx) throws SQLException;
+
+    /**
+     * The argument object for {@link LoaderBulkStrategy} methods.
+     */
+    interface LoaderBulkContext {
+
+        /**
+         * A {@link DSLContext} that executes statements on
+         * {@link #connection()}.
+         */
+        @NotNull
+        DSLContext dsl();
+
+        /**
+         * The JDBC connection to load rows with.
+         */
+        @NotNull
+        Connection connection();
+
+        /**
+         * The target table.
+         */
+        @NotNull
+        Table<?> table();
+
+        /**
+         * The target fields, in the order of the values of {@link #rows()}.
+         */
+        @NotNull
+        List<Field<?>> fields();
+
+        /**
+         * The rows to load, with values converted to the types of
+         * {@link #fields()}.
+         * <p>
+         * The rows are read lazily from the {@link Loader} source, and can be
+         * consumed only once.
+         */
+        @NotNull
+        Iterator<Object[]> rows();
+    }
+}
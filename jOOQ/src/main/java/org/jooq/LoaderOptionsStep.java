@@ -341,4 +341,119 @@ public interface LoaderOptionsStep<R extends Record> extends LoaderSourceStep<R>
     @NotNull @CheckReturnValue
     @Support
     LoaderOptionsStep<R> bulkAfter(int number);
+
+    /**
+     * Load rows using the dialect's native bulk loading API, if available.
+     * <p>
+     * This uses the following APIs, if the JDBC driver supports them:
+     * <ul>
+     * <li>{@link SQLDialect#POSTGRES}: <code>COPY .. FROM STDIN</code> using
+     * the PostgreSQL JDBC driver's <code>CopyManager</code></li>
+     * <li>{@link SQLDialect#MYSQL}, {@link SQLDialect#MARIADB}:
+     * <code>LOAD DATA LOCAL INFILE</code> streaming rows to
+     * <code>setLocalInfileInputStream()</code>, which must be allowed by the
+     * driver and the server</li>
+     * </ul>
+     * <p>
+     * Otherwise, rows are loaded using <code>INSERT</code> statements, as
+     * specified by the other BULK and BATCH OPTIONS. This is the same as
+     * calling {@link #bulkStrategy(LoaderBulkStrategy)} with the built-in
+     * strategy.
+     * <p>
+     * Native bulk loading APIs handle errors differently from
+     * <code>INSERT</code> statements, and ignore the {@link #onErrorAbort()}
+     * and {@link #onErrorIgnore()} settings:
+     * <ul>
+     * <li><code>COPY</code> loads all rows in a single statement, which fails
+     * entirely on the first bad row. This is reported as a single
+     * {@link LoaderError}, and all rows are counted as
+     * {@link Loader#ignored()}, even if they were committed by a previous
+     * {@link #commitAfter(int)} or {@link #commitEach()}.</li>
+     * <li><code>LOAD DATA LOCAL INFILE</code> turns most data errors into
+     * warnings, which aren't reported as {@link LoaderError}. Bad values are
+     * truncated or replaced by default values, and bad rows are skipped, but
+     * still counted as {@link Loader#stored()}, depending on the server's
+     * <code>sql_mode</code>.</li>
+     * </ul>
+     * <p>
+     * Fields with a user defined {@link Binding} are not supported by the
+     * native APIs, and are loaded using <code>INSERT</code> statements.
+     * Values of fields with a {@link Converter} are converted back to their
+     * database types before they are transferred.
+     */
+    @NotNull @CheckReturnValue
+    @Support({ MARIADB, MYSQL, POSTGRES })
+    LoaderOptionsStep<R> bulkNative();
+
+    /**
+     * Load rows using a custom {@link LoaderBulkStrategy}.
+     * <p>
+     * All rows are loaded with a single call to
+     * {@link LoaderBulkStrategy#load(LoaderBulkStrategy.LoaderBulkContext)},
+     * or one call per chunk when {@link #parallelism(int)} is used. If the
+     * strategy doesn't support loading rows, rows are loaded using
+     * <code>INSERT</code> statements, as specified by the other BULK and BATCH
+     * OPTIONS. This cannot be combined with the onDuplicateKey flags.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> bulkStrategy(LoaderBulkStrategy strategy);
+
+    // -------------------------------------------------------------------------
+    // Parallelism
+    // -------------------------------------------------------------------------
+
+    /**
+     * Load rows in parallel, using a given number of workers.
+     * <p>
+     * The source is read on the calling thread and split into chunks of
+     * <code>bulkAfter * batchAfter * commitAfter</code> rows, which are loaded
+     * by workers running on the {@link Configuration#executorProvider()}. Each
+     * worker uses its own connection acquired from the
+     * {@link Configuration#connectionProvider()}, so the provider must be able
+     * to provide several connections at the same time, e.g. a connection pool.
+     * <p>
+     * With {@link #commitEach()} or {@link #commitAfter(int)}, each worker
+     * commits its own connection after each chunk. With {@link #commitAll()},
+     * all connections are committed after all chunks have been loaded, or
+     * rolled back if there were any errors. This isn't an atomic commit across
+     * connections. {@link #onErrorAbort()} stops all workers after their
+     * current chunk. The {@link Loader} outcome aggregates the results of all
+     * workers. {@link LoaderRowListener}s are called concurrently by the
+     * workers.
+     * <p>
+     * This cannot be combined with {@link #bulkAll()} or {@link #batchAll()}.
+     * If you don't specify a parallelism, <code>1</code> will be the default,
+     * loading all rows on the calling thread.
+     *
+     * @param degree The number of workers loading rows in parallel.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> parallelism(int degree);
+
+    /**
+     * Read and convert rows on separate threads, ahead of their execution.
+     * <p>
+     * The source is parsed by one stage, and its values are converted to the
+     * target field types by another stage, both running on the
+     * {@link Configuration#executorProvider()}. The stages are connected by
+     * queues holding up to a given number of rows each. This overlaps parsing
+     * and conversion with the execution of previous statements, which is
+     * useful when loading is bound by network round trips.
+     * <p>
+     * Rows are executed, and {@link LoaderRowListener}s are called, on the
+     * calling thread in source order. If
+     * {@link LoaderListenerStep#onRowStart(LoaderRowListener)} is set, the
+     * listener receives unconverted values, and values are converted on the
+     * calling thread.
+     * <p>
+     * If you don't specify a pipeline, the source is read on the calling
+     * thread while statements are executed.
+     *
+     * @param bufferSize The number of rows that each stage can read ahead.
+     */
+    @NotNull @CheckReturnValue
+    @Support
+    LoaderOptionsStep<R> pipeline(int bufferSize);
 }
@@ -49,8 +49,12 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
+import java.nio.file.StandardOpenOption;
 
 import org.jooq.exception.IOException;
 
@@ -259,6 +263,56 @@ public final class Source {
         }
     }
 
+    /**
+     * Produce a byte channel from this source, if it is a binary source.
+     * <p>
+     * File sources produce a {@link FileChannel}.
+     *
+     * @return The channel, or <code>null</code> if this is a character source.
+     * @throws IOException When something goes wrong creating a channel from
+     *             this source.
+     */
+    public final ReadableByteChannel channel() throws IOException {
+        try {
+            if (bytes != null)
+                if (length > -1)
+                    return Channels.newChannel(new ByteArrayInputStream(bytes, 0, length));
+                else
+                    return Channels.newChannel(new ByteArrayInputStream(bytes));
+            else if (inputStream != null)
+                if (length > -1)
+                    return Channels.newChannel(new LengthLimitedInputStream(inputStream, length));
+                else
+                    return Channels.newChannel(inputStream);
+            else if (file != null)
+                return FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            else
+                return null;
+        }
+        catch (java.io.IOException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The charset of this source, if it is a binary source.
+     *
+     * @return The charset, or <code>null</code> if this is a character source,
+     *         or if the charset is defined by a {@link CharsetDecoder}.
+     */
+    public final Charset charset() {
+        if (bytes == null && inputStream == null && file == null)
+            return null;
+        else if (charsetName != null)
+            return Charset.forName(charsetName);
+        else if (charset != null)
+            return charset;
+        else if (charsetDecoder != null)
+            return null;
+        else
+            return Charset.defaultCharset();
+    }
+
     static class LengthLimitedInputStream extends InputStream {
         final InputStream is;
         int               length;
@@ -17,6 +17,7 @@ import jakarta.xml.bind.annotation.XmlType;
  *     &lt;enumeration value="XML"/&gt;
  *     &lt;enumeration value="JSON"/&gt;
  *     &lt;enumeration value="JSONB"/&gt;
+ *     &lt;enumeration value="BATCHED"/&gt;
  *   &lt;/restriction&gt;
  * &lt;/simpleType&gt;
  * </pre>
@@ -30,7 +31,8 @@ public enum NestedCollectionEmulation {
     DEFAULT,
     XML,
     JSON,
-    JSONB;
+    JSONB,
+    BATCHED;
 
     public String value() {
         return name();
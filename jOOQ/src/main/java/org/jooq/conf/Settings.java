@@ -115,6 +115,10 @@ public class Settings
     @XmlSchemaType(name = "string")
     protected FetchIntermediateResult fetchIntermediateResult = FetchIntermediateResult.WHEN_RESULT_REQUESTED;
     @XmlElement(defaultValue = "false")
+    protected Boolean fetchPrimitiveRecordValues = false;
+    @XmlElement(defaultValue = "false")
+    protected Boolean fetchColumnarResults = false;
+    @XmlElement(defaultValue = "false")
     protected Boolean transformPatterns = false;
     @XmlElement(defaultValue = "true")
     protected Boolean transformPatternsLogging = true;
@@ -213,6 +217,8 @@ public class Settings
     protected StatementType statementType = StatementType.PREPARED_STATEMENT;
     @XmlElement(defaultValue = "0")
     protected Integer inlineThreshold = 0;
+    @XmlElement(defaultValue = "false")
+    protected Boolean executeMultiRowInsertsInChunks = false;
     @XmlElement(defaultValue = "DEFAULT")
     @XmlSchemaType(name = "string")
     protected InvocationOrder transactionListenerStartInvocationOrder = InvocationOrder.DEFAULT;
@@ -270,6 +276,10 @@ public class Settings
     protected Boolean cacheParsingConnection = true;
     @XmlElement(defaultValue = "8192")
     protected Integer cacheParsingConnectionLRUCacheSize = 8192;
+    @XmlElement(defaultValue = "false")
+    protected Boolean cacheRenderedSQL = false;
+    @XmlElement(defaultValue = "8192")
+    protected Integer cacheRenderedSQLLRUCacheSize = 8192;
     @XmlElement(defaultValue = "true")
     protected Boolean cachePreparedStatementInLoader = true;
     @XmlElement(defaultValue = "THROW_ALL")
@@ -312,6 +322,8 @@ public class Settings
     protected Boolean inListPadding = false;
     @XmlElement(defaultValue = "2")
     protected Integer inListPadBase = 2;
+    @XmlElement(defaultValue = "false")
+    protected Boolean inListArrayBind = false;
     @XmlElement(defaultValue = ";")
     protected String delimiter = ";";
     @XmlElement(defaultValue = "false")
@@ -1199,6 +1211,58 @@ public class Settings
         this.fetchIntermediateResult = value;
     }
 
+    /**
+     * Whether records fetched from JDBC should store fixed width numeric values (<code>BYTE</code>, <code>SMALLINT</code>, <code>INTEGER</code>, <code>BIGINT</code>, <code>REAL</code>, <code>DOUBLE</code>) without custom bindings or converters unboxed, boxing them lazily only when they are accessed.
+     * <p>
+     * This reduces allocations when fetching large amounts of numeric data, which are never accessed, or accessed only once. The setting can be activated for individual queries using {@link org.jooq.Configuration#derive(Settings)}.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchPrimitiveRecordValues() {
+        return fetchPrimitiveRecordValues;
+    }
+
+    /**
+     * Sets the value of the fetchPrimitiveRecordValues property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchPrimitiveRecordValues(Boolean value) {
+        this.fetchPrimitiveRecordValues = value;
+    }
+
+    /**
+     * Whether results fetched from JDBC should store their values in one array per column, rather than in one record per row.
+     * <p>
+     * This reduces the memory footprint of large results, and speeds up operations that only access individual columns, such as {@link org.jooq.Result#getValues(org.jooq.Field)}. Records accessed by index, e.g. through {@link java.util.List#get(int)}, are materialised on first access, and then retained by the result. Records produced by iteration or streams are transient copies that aren't retained by the result, and modifications to which aren't reflected by the result.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isFetchColumnarResults() {
+        return fetchColumnarResults;
+    }
+
+    /**
+     * Sets the value of the fetchColumnarResults property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setFetchColumnarResults(Boolean value) {
+        this.fetchColumnarResults = value;
+    }
+
     /**
      * Transform various syntax patterns to better versions, if possible.
      * <p>
@@ -2503,6 +2567,32 @@ public class Settings
         this.inlineThreshold = value;
     }
 
+    /**
+     * Whether multi row INSERT statements should be executed in several chunks if their number of bind values exceeds the limit given by inlineThreshold.
+     * <p>
+     * Chunks are sized to contain as many rows as possible within the limit, which keeps their bind values from being inlined. The row counts of all chunks are added up. Unlike a single statement, the chunks are not executed atomically unless they're executed in a transaction. This does not apply to INSERT statements with a RETURNING clause or INSERT .. SELECT statements.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isExecuteMultiRowInsertsInChunks() {
+        return executeMultiRowInsertsInChunks;
+    }
+
+    /**
+     * Sets the value of the executeMultiRowInsertsInChunks property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setExecuteMultiRowInsertsInChunks(Boolean value) {
+        this.executeMultiRowInsertsInChunks = value;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.TransactionListener}s.
      * 
@@ -2902,7 +2992,7 @@ public class Settings
     }
 
     /**
-     * Whether record mappers should be cached in the configuration.
+     * Whether record mappers and unmappers should be cached in the configuration.
      * 
      * @return
      *     possible object is
@@ -2965,6 +3055,46 @@ public class Settings
         this.cacheParsingConnectionLRUCacheSize = value;
     }
 
+    /**
+     * Whether rendered SQL strings of structurally identical queries should be cached in the configuration, such that repeated executions only need to collect bind values. Query structures are compared exactly, including inlined values, so their SQL strings are never shared between different queries.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isCacheRenderedSQL() {
+        return cacheRenderedSQL;
+    }
+
+    /**
+     * Sets the value of the cacheRenderedSQL property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setCacheRenderedSQL(Boolean value) {
+        this.cacheRenderedSQL = value;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public Integer getCacheRenderedSQLLRUCacheSize() {
+        return cacheRenderedSQLLRUCacheSize;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public void setCacheRenderedSQLLRUCacheSize(Integer value) {
+        this.cacheRenderedSQLLRUCacheSize = value;
+    }
+
     /**
      * Whether JDBC {@link java.sql.PreparedStatement} instances should be cached in loader API.
      * 
@@ -3394,6 +3524,32 @@ public class Settings
         this.inListPadBase = value;
     }
 
+    /**
+     * Whether IN lists in IN predicates should be rendered as a single array bind value, e.g. <code>= ANY (?)</code>, in dialects that support this.
+     * <p>
+     * This applies only to lists of non-inlined bind values in dialects that support array bind values, such as {@link org.jooq.SQLDialect#H2}, {@link org.jooq.SQLDialect#HSQLDB}, and {@link org.jooq.SQLDialect#POSTGRES}. All list sizes then produce the same SQL string, and thus share a single prepared statement. This takes precedence over {@link #inListPadding}.
+     * 
+     * @return
+     *     possible object is
+     *     {@link Boolean }
+     *     
+     */
+    public Boolean isInListArrayBind() {
+        return inListArrayBind;
+    }
+
+    /**
+     * Sets the value of the inListArrayBind property.
+     * 
+     * @param value
+     *     allowed object is
+     *     {@link Boolean }
+     *     
+     */
+    public void setInListArrayBind(Boolean value) {
+        this.inListArrayBind = value;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -4516,6 +4672,16 @@ public class Settings
         return this;
     }
 
+    public Settings withFetchPrimitiveRecordValues(Boolean value) {
+        setFetchPrimitiveRecordValues(value);
+        return this;
+    }
+
+    public Settings withFetchColumnarResults(Boolean value) {
+        setFetchColumnarResults(value);
+        return this;
+    }
+
     public Settings withTransformPatterns(Boolean value) {
         setTransformPatterns(value);
         return this;
@@ -4823,6 +4989,11 @@ public class Settings
         return this;
     }
 
+    public Settings withExecuteMultiRowInsertsInChunks(Boolean value) {
+        setExecuteMultiRowInsertsInChunks(value);
+        return this;
+    }
+
     /**
      * The order of invocation for [action]start() methods registered {@link org.jooq.TransactionListener}s.
      * 
@@ -4986,6 +5157,20 @@ public class Settings
         return this;
     }
 
+    public Settings withCacheRenderedSQL(Boolean value) {
+        setCacheRenderedSQL(value);
+        return this;
+    }
+
+    /**
+     * The default implementation of the rendered SQL cache's LRU cache size.
+     * 
+     */
+    public Settings withCacheRenderedSQLLRUCacheSize(Integer value) {
+        setCacheRenderedSQLLRUCacheSize(value);
+        return this;
+    }
+
     public Settings withCachePreparedStatementInLoader(Boolean value) {
         setCachePreparedStatementInLoader(value);
         return this;
@@ -5122,6 +5307,11 @@ public class Settings
         return this;
     }
 
+    public Settings withInListArrayBind(Boolean value) {
+        setInListArrayBind(value);
+        return this;
+    }
+
     /**
      * [#5826] The delimiter character to be used to delimit statements in batches.
      * 
@@ -5530,6 +5720,8 @@ public class Settings
         builder.append("bindOffsetTimeType", bindOffsetTimeType);
         builder.append("fetchTriggerValuesAfterSQLServerOutput", fetchTriggerValuesAfterSQLServerOutput);
         builder.append("fetchIntermediateResult", fetchIntermediateResult);
+        builder.append("fetchPrimitiveRecordValues", fetchPrimitiveRecordValues);
+        builder.append("fetchColumnarResults", fetchColumnarResults);
         builder.append("transformPatterns", transformPatterns);
         builder.append("transformPatternsLogging", transformPatternsLogging);
         builder.append("transformPatternsTrim", transformPatternsTrim);
@@ -5575,6 +5767,7 @@ public class Settings
         builder.append("paramCastMode", paramCastMode);
         builder.append("statementType", statementType);
         builder.append("inlineThreshold", inlineThreshold);
+        builder.append("executeMultiRowInsertsInChunks", executeMultiRowInsertsInChunks);
         builder.append("transactionListenerStartInvocationOrder", transactionListenerStartInvocationOrder);
         builder.append("transactionListenerEndInvocationOrder", transactionListenerEndInvocationOrder);
         builder.append("migrationListenerStartInvocationOrder", migrationListenerStartInvocationOrder);
@@ -5598,6 +5791,8 @@ public class Settings
         builder.append("cacheRecordMappers", cacheRecordMappers);
         builder.append("cacheParsingConnection", cacheParsingConnection);
         builder.append("cacheParsingConnectionLRUCacheSize", cacheParsingConnectionLRUCacheSize);
+        builder.append("cacheRenderedSQL", cacheRenderedSQL);
+        builder.append("cacheRenderedSQLLRUCacheSize", cacheRenderedSQLLRUCacheSize);
         builder.append("cachePreparedStatementInLoader", cachePreparedStatementInLoader);
         builder.append("throwExceptions", throwExceptions);
         builder.append("fetchWarnings", fetchWarnings);
@@ -5618,6 +5813,7 @@ public class Settings
         builder.append("debugInfoOnStackTrace", debugInfoOnStackTrace);
         builder.append("inListPadding", inListPadding);
         builder.append("inListPadBase", inListPadBase);
+        builder.append("inListArrayBind", inListArrayBind);
         builder.append("delimiter", delimiter);
         builder.append("emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly", emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly);
         builder.append("emulateMultiset", emulateMultiset);
@@ -5970,6 +6166,24 @@ public class Settings
                 return false;
             }
         }
+        if (fetchPrimitiveRecordValues == null) {
+            if (other.fetchPrimitiveRecordValues!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchPrimitiveRecordValues.equals(other.fetchPrimitiveRecordValues)) {
+                return false;
+            }
+        }
+        if (fetchColumnarResults == null) {
+            if (other.fetchColumnarResults!= null) {
+                return false;
+            }
+        } else {
+            if (!fetchColumnarResults.equals(other.fetchColumnarResults)) {
+                return false;
+            }
+        }
         if (transformPatterns == null) {
             if (other.transformPatterns!= null) {
                 return false;
@@ -6375,6 +6589,15 @@ public class Settings
                 return false;
             }
         }
+        if (executeMultiRowInsertsInChunks == null) {
+            if (other.executeMultiRowInsertsInChunks!= null) {
+                return false;
+            }
+        } else {
+            if (!executeMultiRowInsertsInChunks.equals(other.executeMultiRowInsertsInChunks)) {
+                return false;
+            }
+        }
         if (transactionListenerStartInvocationOrder == null) {
             if (other.transactionListenerStartInvocationOrder!= null) {
                 return false;
@@ -6582,6 +6805,24 @@ public class Settings
                 return false;
             }
         }
+        if (cacheRenderedSQL == null) {
+            if (other.cacheRenderedSQL!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQL.equals(other.cacheRenderedSQL)) {
+                return false;
+            }
+        }
+        if (cacheRenderedSQLLRUCacheSize == null) {
+            if (other.cacheRenderedSQLLRUCacheSize!= null) {
+                return false;
+            }
+        } else {
+            if (!cacheRenderedSQLLRUCacheSize.equals(other.cacheRenderedSQLLRUCacheSize)) {
+                return false;
+            }
+        }
         if (cachePreparedStatementInLoader == null) {
             if (other.cachePreparedStatementInLoader!= null) {
                 return false;
@@ -6762,6 +7003,15 @@ public class Settings
                 return false;
             }
         }
+        if (inListArrayBind == null) {
+            if (other.inListArrayBind!= null) {
+                return false;
+            }
+        } else {
+            if (!inListArrayBind.equals(other.inListArrayBind)) {
+                return false;
+            }
+        }
         if (delimiter == null) {
             if (other.delimiter!= null) {
                 return false;
@@ -7188,6 +7438,8 @@ public class Settings
         result = ((prime*result)+((bindOffsetTimeType == null)? 0 :bindOffsetTimeType.hashCode()));
         result = ((prime*result)+((fetchTriggerValuesAfterSQLServerOutput == null)? 0 :fetchTriggerValuesAfterSQLServerOutput.hashCode()));
         result = ((prime*result)+((fetchIntermediateResult == null)? 0 :fetchIntermediateResult.hashCode()));
+        result = ((prime*result)+((fetchPrimitiveRecordValues == null)? 0 :fetchPrimitiveRecordValues.hashCode()));
+        result = ((prime*result)+((fetchColumnarResults == null)? 0 :fetchColumnarResults.hashCode()));
         result = ((prime*result)+((transformPatterns == null)? 0 :transformPatterns.hashCode()));
         result = ((prime*result)+((transformPatternsLogging == null)? 0 :transformPatternsLogging.hashCode()));
         result = ((prime*result)+((transformPatternsTrim == null)? 0 :transformPatternsTrim.hashCode()));
@@ -7233,6 +7485,7 @@ public class Settings
         result = ((prime*result)+((paramCastMode == null)? 0 :paramCastMode.hashCode()));
         result = ((prime*result)+((statementType == null)? 0 :statementType.hashCode()));
         result = ((prime*result)+((inlineThreshold == null)? 0 :inlineThreshold.hashCode()));
+        result = ((prime*result)+((executeMultiRowInsertsInChunks == null)? 0 :executeMultiRowInsertsInChunks.hashCode()));
         result = ((prime*result)+((transactionListenerStartInvocationOrder == null)? 0 :transactionListenerStartInvocationOrder.hashCode()));
         result = ((prime*result)+((transactionListenerEndInvocationOrder == null)? 0 :transactionListenerEndInvocationOrder.hashCode()));
         result = ((prime*result)+((migrationListenerStartInvocationOrder == null)? 0 :migrationListenerStartInvocationOrder.hashCode()));
@@ -7256,6 +7509,8 @@ public class Settings
         result = ((prime*result)+((cacheRecordMappers == null)? 0 :cacheRecordMappers.hashCode()));
         result = ((prime*result)+((cacheParsingConnection == null)? 0 :cacheParsingConnection.hashCode()));
         result = ((prime*result)+((cacheParsingConnectionLRUCacheSize == null)? 0 :cacheParsingConnectionLRUCacheSize.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQL == null)? 0 :cacheRenderedSQL.hashCode()));
+        result = ((prime*result)+((cacheRenderedSQLLRUCacheSize == null)? 0 :cacheRenderedSQLLRUCacheSize.hashCode()));
         result = ((prime*result)+((cachePreparedStatementInLoader == null)? 0 :cachePreparedStatementInLoader.hashCode()));
         result = ((prime*result)+((throwExceptions == null)? 0 :throwExceptions.hashCode()));
         result = ((prime*result)+((fetchWarnings == null)? 0 :fetchWarnings.hashCode()));
@@ -7276,6 +7531,7 @@ public class Settings
         result = ((prime*result)+((debugInfoOnStackTrace == null)? 0 :debugInfoOnStackTrace.hashCode()));
         result = ((prime*result)+((inListPadding == null)? 0 :inListPadding.hashCode()));
         result = ((prime*result)+((inListPadBase == null)? 0 :inListPadBase.hashCode()));
+        result = ((prime*result)+((inListArrayBind == null)? 0 :inListArrayBind.hashCode()));
         result = ((prime*result)+((delimiter == null)? 0 :delimiter.hashCode()));
         result = ((prime*result)+((emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly == null)? 0 :emulateOnDuplicateKeyUpdateOnPrimaryKeyOnly.hashCode()));
         result = ((prime*result)+((emulateMultiset == null)? 0 :emulateMultiset.hashCode()));
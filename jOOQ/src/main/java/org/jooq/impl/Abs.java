@@ -173,4 +173,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Abs.class, $value());
+    }
 }
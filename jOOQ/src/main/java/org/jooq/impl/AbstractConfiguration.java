@@ -41,6 +41,7 @@ import static org.jooq.impl.Tools.combine;
 
 import java.util.function.Supplier;
 
+import org.jooq.CacheStatistics;
 import org.jooq.Configuration;
 import org.jooq.DiagnosticsListener;
 import org.jooq.DiagnosticsListenerProvider;
@@ -69,6 +70,11 @@ import org.jooq.tools.JooqLogger;
 public abstract class AbstractConfiguration implements Configuration {
     private static final JooqLogger log              = JooqLogger.getLogger(AbstractConfiguration.class);
 
+    @Override
+    public final CacheStatistics cacheStatistics(CacheType type) {
+        return Cache.statistics(this, type);
+    }
+
     @Override
     public final Configuration set(RecordListener... newRecordListeners) {
         return set(DefaultRecordListenerProvider.providers(newRecordListeners));
@@ -37,10 +37,13 @@
  */
 package org.jooq.impl;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.List;
 
 import org.jooq.Attachable;
@@ -101,6 +104,17 @@ abstract class AbstractFormattable implements Formattable, Attachable {
     // The Formattable API
     // -------------------------------------------------------------------------
 
+    /**
+     * A writer for an {@link OutputStream}, using the default charset.
+     * <p>
+     * UTF-8 is encoded without a general purpose charset encoder.
+     */
+    static final Writer writer(OutputStream stream) {
+        return UTF_8.equals(Charset.defaultCharset())
+            ? new UTF8Writer(stream)
+            : new OutputStreamWriter(stream);
+    }
+
     @Override
     public final String format() {
         return format(Tools.configuration(this).formattingProvider().txtFormat());
@@ -120,17 +134,17 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void format(OutputStream stream) {
-        format(new OutputStreamWriter(stream));
+        format(writer(stream));
     }
 
     @Override
     public final void format(OutputStream stream, int maxRecords) {
-        format(new OutputStreamWriter(stream), maxRecords);
+        format(writer(stream), maxRecords);
     }
 
     @Override
     public final void format(OutputStream stream, TXTFormat format) {
-        format(new OutputStreamWriter(stream), format);
+        format(writer(stream), format);
     }
 
     @Override
@@ -182,12 +196,12 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatCSV(OutputStream stream) {
-        formatCSV(new OutputStreamWriter(stream));
+        formatCSV(writer(stream));
     }
 
     @Override
     public final void formatCSV(OutputStream stream, boolean header) {
-        formatCSV(new OutputStreamWriter(stream), header);
+        formatCSV(writer(stream), header);
     }
 
     @Override
@@ -197,22 +211,22 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatCSV(OutputStream stream, boolean header, char delimiter) {
-        formatCSV(new OutputStreamWriter(stream), header, delimiter);
+        formatCSV(writer(stream), header, delimiter);
     }
 
     @Override
     public final void formatCSV(OutputStream stream, char delimiter, String nullString) {
-        formatCSV(new OutputStreamWriter(stream), delimiter, nullString);
+        formatCSV(writer(stream), delimiter, nullString);
     }
 
     @Override
     public final void formatCSV(OutputStream stream, boolean header, char delimiter, String nullString) {
-        formatCSV(new OutputStreamWriter(stream), header, delimiter, nullString);
+        formatCSV(writer(stream), header, delimiter, nullString);
     }
 
     @Override
     public final void formatCSV(OutputStream stream, CSVFormat format) {
-        formatCSV(new OutputStreamWriter(stream), format);
+        formatCSV(writer(stream), format);
     }
 
     @Override
@@ -263,12 +277,12 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatJSON(OutputStream stream) {
-        formatJSON(new OutputStreamWriter(stream));
+        formatJSON(writer(stream));
     }
 
     @Override
     public final void formatJSON(OutputStream stream, JSONFormat format) {
-        formatJSON(new OutputStreamWriter(stream), format);
+        formatJSON(writer(stream), format);
     }
 
     @Override
@@ -297,7 +311,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatXML(OutputStream stream, XMLFormat format) {
-        formatXML(new OutputStreamWriter(stream), format);
+        formatXML(writer(stream), format);
     }
 
     @Override
@@ -321,12 +335,12 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatChart(OutputStream stream) {
-        formatChart(new OutputStreamWriter(stream));
+        formatChart(writer(stream));
     }
 
     @Override
     public final void formatChart(OutputStream stream, ChartFormat format) {
-        formatChart(new OutputStreamWriter(stream), format);
+        formatChart(writer(stream), format);
     }
 
     @Override
@@ -343,7 +357,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatInsert(OutputStream stream) {
-        formatInsert(new OutputStreamWriter(stream));
+        formatInsert(writer(stream));
     }
 
     @Override
@@ -355,7 +369,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatInsert(OutputStream stream, Table<?> table, Field<?>... f) {
-        formatInsert(new OutputStreamWriter(stream), table, f);
+        formatInsert(writer(stream), table, f);
     }
 
     @Override
@@ -367,7 +381,7 @@ abstract class AbstractFormattable implements Formattable, Attachable {
 
     @Override
     public final void formatHTML(OutputStream stream) {
-        formatHTML(new OutputStreamWriter(stream));
+        formatHTML(writer(stream));
     }
 
     @Override
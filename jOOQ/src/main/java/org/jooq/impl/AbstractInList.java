@@ -75,13 +75,19 @@ import static org.jooq.SQLDialect.POSTGRES;
 // ...
 import static org.jooq.SQLDialect.YUGABYTEDB;
 import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.impl.DSL.any;
 import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.table;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.val;
 import static org.jooq.impl.Keywords.K_AND;
 import static org.jooq.impl.Keywords.K_IN;
 import static org.jooq.impl.Keywords.K_NOT_IN;
 import static org.jooq.impl.Keywords.K_OR;
+import static org.jooq.impl.Names.N_COLUMN_VALUE;
+import static org.jooq.impl.Names.N_T;
 import static org.jooq.impl.QueryPartListView.wrap;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
 import static org.jooq.impl.Tools.anyMatch;
@@ -90,17 +96,22 @@ import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_MULTISET_CONDITION;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
+import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.List;
 import java.util.Set;
 
 import org.jooq.Condition;
 import org.jooq.Context;
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Function2;
 import org.jooq.Param;
+import org.jooq.Record1;
 import org.jooq.RowN;
 import org.jooq.SQLDialect;
+import org.jooq.Select;
+import org.jooq.Table;
 // ...
 import org.jooq.impl.QOM.InList;
 import org.jooq.impl.QOM.UnmodifiableList;
@@ -113,6 +124,7 @@ abstract class AbstractInList<T> extends AbstractCondition {
     static final int              IN_LIMIT               = 1000;
     static final Set<SQLDialect>  REQUIRES_IN_LIMIT      = SQLDialect.supportedBy(FIREBIRD);
     static final Set<SQLDialect>  NO_SUPPORT_EMPTY_LISTS = SQLDialect.supportedBy(CUBRID, DERBY, FIREBIRD, H2, HSQLDB, MARIADB, MYSQL, POSTGRES, YUGABYTEDB);
+    static final Set<SQLDialect>  SUPPORT_ARRAY_BIND     = SQLDialect.supportedBy(H2, HSQLDB, POSTGRES, YUGABYTEDB);
 
     final Field<T>                field;
     final QueryPartList<Field<T>> values;
@@ -173,6 +185,29 @@ abstract class AbstractInList<T> extends AbstractCondition {
             else
                 ctx.visit(trueCondition());
         }
+
+        // Render all list sizes as the same SQL string, sharing a single
+        // prepared statement
+        else if (arrayBind(ctx, field, values)) {
+            Field<T[]> array = array(field, values);
+
+            switch (ctx.family()) {
+                case POSTGRES:
+                case YUGABYTEDB: {
+                    Condition c = field.eq(any(array));
+                    ctx.visit(in ? c : c.not());
+                    break;
+                }
+
+                // H2 and HSQLDB can unnest the array in a subquery
+                default: {
+                    Table<?> t = table(array).as(N_T, N_COLUMN_VALUE);
+                    Select<Record1<T>> s = select(t.field(N_COLUMN_VALUE, field.getDataType())).from(t);
+                    ctx.visit(in ? field.in(s) : field.notIn(s));
+                    break;
+                }
+            }
+        }
         else if (values.size() > IN_LIMIT) {
             // [#798] Oracle and some other dialects can only hold 1000 values
             // in an IN (...) clause
@@ -217,6 +252,37 @@ abstract class AbstractInList<T> extends AbstractCondition {
             toSQLSubValues(ctx, field, in, padded(ctx, values));
     }
 
+    private static final boolean arrayBind(Context<?> ctx, Field<?> field, List<? extends Field<?>> values) {
+        if (ctx.paramType() != INDEXED
+            || !TRUE.equals(ctx.settings().isInListArrayBind())
+            || !SUPPORT_ARRAY_BIND.contains(ctx.dialect()))
+            return false;
+
+        DataType<?> type = field.getDataType();
+        if (type.isArray()
+            || type.isEmbeddable()
+            || type.isMultiset()
+            || type.isUDT()
+            || !(type.getConverter() instanceof IdentityConverter))
+            return false;
+
+        for (Field<?> value : values)
+            if (!(value instanceof Val<?> v) || v.isInline() || v.getType() != type.getType())
+                return false;
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final <T> Field<T[]> array(Field<T> field, List<? extends Field<T>> values) {
+        T[] array = (T[]) Array.newInstance(field.getType(), values.size());
+
+        for (int i = 0; i < array.length; i++)
+            array[i] = ((Val<T>) values.get(i)).getValue();
+
+        return val(array, field.getDataType().getArrayDataType());
+    }
+
     static final RowN[] rows(List<? extends Field<?>> values) {
         return map(values, v -> row(embeddedFields(v)), RowN[]::new);
     }
@@ -0,0 +1,200 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jooq.ContextConverter;
+import org.jooq.ConverterContext;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.LoaderBulkStrategy;
+import org.jooq.impl.DefaultBinding.InternalBinding;
+
+/**
+ * A base implementation for {@link LoaderBulkStrategy} types that stream rows
+ * to a JDBC driver in a textual format, lazily formatting one line per row.
+ *
+ * @author Lukas Eder
+ */
+abstract class AbstractLoaderBulkStrategy implements LoaderBulkStrategy {
+
+    /**
+     * Append a row as a line in this strategy's textual format.
+     * <p>
+     * The row's values are of the fields' database types, i.e. the
+     * {@link org.jooq.Converter#fromType()} of their converters.
+     */
+    abstract void append(StringBuilder sb, List<Field<?>> fields, Object[] row);
+
+    /**
+     * Whether the textual format can represent all the fields' values.
+     * <p>
+     * User defined {@link org.jooq.Binding} types may bind values in arbitrary
+     * ways, which can't be represented in a textual format.
+     */
+    static final boolean supportedTypes(List<Field<?>> fields) {
+        for (Field<?> field : fields) {
+            DataType<?> type = field.getDataType();
+
+            if (type.isArray() || type.isEmbeddable() || type.isMultiset() || type.isUDT())
+                return false;
+            else if (!(type.getBinding() instanceof InternalBinding))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Convert a row's user type values back to the fields' database types.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static final Object[] databaseValues(ContextConverter<?, ?>[] converters, ConverterContext cc, Object[] row) {
+        Object[] result = new Object[row.length];
+
+        for (int i = 0; i < row.length; i++)
+            result[i] = i < converters.length ? ((ContextConverter) converters[i]).to(row[i], cc) : row[i];
+
+        return result;
+    }
+
+    final Reader reader(LoaderBulkContext ctx) {
+        Lines lines = new Lines(ctx);
+
+        return new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                if (len == 0)
+                    return 0;
+                else if (!lines.next())
+                    return -1;
+
+                int n = Math.min(len, lines.line.length() - lines.position);
+                lines.line.getChars(lines.position, lines.position + n, cbuf, off);
+                lines.position += n;
+                return n;
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+
+    final InputStream inputStream(LoaderBulkContext ctx) {
+        Lines lines = new Lines(ctx);
+
+        return new InputStream() {
+            byte[] bytes;
+            int    position;
+
+            @Override
+            public int read() {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0)
+                    return 0;
+
+                while (bytes == null || position == bytes.length) {
+                    if (!lines.next())
+                        return -1;
+
+                    bytes = lines.line.toString().getBytes(UTF_8);
+                    position = 0;
+                    lines.position = lines.line.length();
+                }
+
+                int n = Math.min(len, bytes.length - position);
+                System.arraycopy(bytes, position, b, off, n);
+                position += n;
+                return n;
+            }
+        };
+    }
+
+    /**
+     * The lines formatted from a {@link LoaderBulkContext}'s rows, one at a
+     * time.
+     */
+    private final class Lines {
+        final List<Field<?>>           fields;
+        final ContextConverter<?, ?>[] converters;
+        final ConverterContext         cc;
+        final Iterator<Object[]>       rows;
+        final StringBuilder            line = new StringBuilder();
+        int                            position;
+
+        Lines(LoaderBulkContext ctx) {
+            this.fields = ctx.fields();
+            this.converters = new ContextConverter[fields.size()];
+            this.cc = Tools.converterContext(ctx.dsl().configuration());
+            this.rows = ctx.rows();
+
+            for (int i = 0; i < converters.length; i++)
+                converters[i] = ContextConverter.scoped(fields.get(i).getConverter());
+        }
+
+        /**
+         * Move to the next line, if the current line has been consumed.
+         *
+         * @return Whether there are any characters left to consume.
+         */
+        boolean next() {
+            while (position == line.length()) {
+                if (!rows.hasNext())
+                    return false;
+
+                line.setLength(0);
+                position = 0;
+                append(line, fields, databaseValues(converters, cc, rows.next()));
+            }
+
+            return true;
+        }
+    }
+}
@@ -97,6 +97,10 @@ abstract class AbstractNamed extends AbstractQueryPart implements Named {
 
     @Override
     public int hashCode() {
+        int h = structuralHash();
+
+        if (h != 0)
+            return h;
 
         // [#1938] This is a much more efficient hashCode() implementation
         // compared to that of standard QueryParts
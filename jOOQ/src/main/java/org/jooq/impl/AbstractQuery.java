@@ -49,6 +49,7 @@ import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.conf.ThrowExceptions.THROW_NONE;
+import static org.jooq.impl.CacheType.CACHE_RENDERED_SQL;
 import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
 import static org.jooq.impl.Tools.blocking;
@@ -95,6 +96,7 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
     transient PreparedStatement     statement;
     transient int                   statementExecutionCount;
     transient Rendered              rendered;
+    transient boolean               uncacheableSQL;
 
     AbstractQuery(Configuration configuration) {
         super(configuration);
@@ -221,6 +223,24 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         return this;
     }
 
+    /**
+     * Subclasses may override this to split this query into several queries,
+     * which are executed instead of this query, if it exceeds the bind value
+     * limit. Returns <code>null</code> if this query isn't split.
+     */
+    List<? extends Query> chunks(Configuration c) {
+        return null;
+    }
+
+    /**
+     * Subclasses may override this to execute this query as several other
+     * queries, instead of as a single statement. Returns the execution result
+     * of {@link #execute()}, or <code>-1</code> if this query isn't split.
+     */
+    int executeSplit(Configuration c) {
+        return -1;
+    }
+
     protected final boolean keepStatement() {
         return keepStatement;
     }
@@ -257,6 +277,24 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
             // Get the attached configuration of this query
             Configuration c = configurationOrDefault();
 
+            // Queries that exceed the bind value limit may be split into chunks
+            if (!keepStatement()) {
+                List<? extends Query> chunks = chunks(c);
+
+                if (chunks != null) {
+                    int result = 0;
+
+                    for (Query chunk : chunks)
+                        result += chunk.execute();
+
+                    return result;
+                }
+
+                int split = executeSplit(c);
+                if (split >= 0)
+                    return split;
+            }
+
             // [#1191] The following triggers a start event on all listeners.
             //         This may be used to provide jOOQ with a JDBC connection,
             //         in case this Query / Configuration was previously
@@ -333,8 +371,15 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
                     !TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
 
                     listener.bindStart(ctx);
-                    if (rendered.bindValues != null)
-                        using(c).bindContext(ctx.statement()).visit(rendered.bindValues);
+                    if (rendered.bindValues != null) {
+                        BindingPlan plan = BindingPlan.bindValues(c, rendered.bindValues);
+
+                        // Plain bind values can be bound directly, without visiting them
+                        if (plan != null)
+                            plan.set(BindingPlan.setContext(c, ctx.statement()));
+                        else
+                            using(c).bindContext(ctx.statement()).visit(rendered.bindValues);
+                    }
                     listener.bindEnd(ctx);
                 }
 
@@ -470,9 +515,9 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         }
         else if (executePreparedStatements(configuration().settings())) {
             try {
-                render = new DefaultRenderContext(c, ctx);
-                render.data(DATA_COUNT_BIND_VALUES, true);
-                result = new Rendered(render.visit(this).render(), render.bindValues(), render.skipUpdateCounts());
+                result = !uncacheableSQL && ShapeCollector.enabled(c)
+                    ? getCachedSQL0(ctx, c)
+                    : getPreparedSQL0(ctx, c);
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
@@ -512,6 +557,53 @@ abstract class AbstractQuery<R extends Record> extends AbstractAttachableQueryPa
         return result;
     }
 
+    private final Rendered getPreparedSQL0(ExecuteContext ctx, Configuration c) {
+        DefaultRenderContext render = new DefaultRenderContext(c, ctx);
+        render.data(DATA_COUNT_BIND_VALUES, true);
+        return new Rendered(render.visit(this).render(), render.bindValues(), render.skipUpdateCounts());
+    }
+
+    /**
+     * Look up the SQL string of a previously rendered query of the same shape
+     * from the {@link CacheType#CACHE_RENDERED_SQL}, collecting only this
+     * query's bind values, or render the query and cache its SQL string.
+     */
+    private final Rendered getCachedSQL0(ExecuteContext ctx, Configuration c) {
+        ShapeCollector shape = new ShapeCollector(c, ctx);
+
+        // Queries whose shape cannot be collected are rendered right away, and
+        // this instance isn't traversed for its shape again
+        try {
+            shape.visit(this);
+        }
+        catch (ShapeCollector.UncacheableSignal e) {
+            uncacheableSQL = true;
+            return getPreparedSQL0(ctx, c);
+        }
+
+        Rendered[] rendered = { null };
+        ShapeCollector.Entry cached = Cache.run(c, () -> {
+            Rendered r = rendered[0] = getPreparedSQL0(ctx, c);
+
+            // Queries whose bind values cannot be collected independently
+            // of rendering are remembered as uncacheable
+            if (shape.matches(ctx, r))
+                return shape.entry(r);
+
+            uncacheableSQL = true;
+            return null;
+        }, CACHE_RENDERED_SQL, shape::key);
+
+        if (rendered[0] != null)
+            return rendered[0];
+        else if (cached == null || !shape.matches(cached)) {
+            uncacheableSQL = true;
+            return getPreparedSQL0(ctx, c);
+        }
+        else
+            return new Rendered(cached.sql(), shape.bindValues, cached.skipUpdateCounts());
+    }
+
 
 
 
@@ -44,15 +44,20 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.sql.SQLException;
+import java.util.Collection;
 
 import org.jooq.Attachable;
 import org.jooq.Clause;
 import org.jooq.Configuration;
 import org.jooq.Context;
 import org.jooq.DSLContext;
+import org.jooq.Keyword;
 // ...
+import org.jooq.Param;
+import org.jooq.Query;
 import org.jooq.QueryPart;
 import org.jooq.QueryPartInternal;
+import org.jooq.Select;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.SQLDialectNotSupportedException;
 import org.jooq.tools.JooqLogger;
@@ -62,6 +67,18 @@ import org.jooq.tools.JooqLogger;
  */
 abstract class AbstractQueryPart implements QueryPartInternal {
 
+    /**
+     * The memoised structural hash code, or <code>0</code> if it hasn't been
+     * memoised.
+     */
+    private transient int     hash;
+
+    /**
+     * Whether the structural hash code can't be memoised, because it depends
+     * on mutable arguments.
+     */
+    private transient boolean unstableHash;
+
     // -------------------------------------------------------------------------
     // [#1544] The deprecated Attachable and Attachable internal API
     // -------------------------------------------------------------------------
@@ -158,6 +175,11 @@ abstract class AbstractQueryPart implements QueryPartInternal {
         if (this == that)
             return true;
 
+        // Structural QueryParts whose memoised hash codes differ can't be equal,
+        // which avoids rendering SQL without computing any hash codes
+        if (hash != 0 && that instanceof AbstractQueryPart a && a.hash != 0 && hash != a.hash)
+            return false;
+
         // This is a working default implementation. It should be overridden by
         // concrete subclasses, to improve performance
         if (that instanceof QueryPart q) {
@@ -177,12 +199,83 @@ abstract class AbstractQueryPart implements QueryPartInternal {
 
     @Override
     public int hashCode() {
+        int h = structuralHash();
+
+        if (h != 0)
+            return h;
+
         // This is a working default implementation. It should be overridden by
         // concrete subclasses, to improve performance
-
         return create().renderInlined(this).hashCode();
     }
 
+    /**
+     * The structural hash code of this {@link QueryPart}, or <code>0</code> if
+     * this {@link QueryPart} doesn't have a structural hash code.
+     */
+    final int structuralHash() {
+        int h = hash;
+        return h != 0 ? h : hashCode0();
+    }
+
+    /**
+     * Subclasses may override this to compute a structural hash code from
+     * their QOM arguments using {@link #hash(Object...)}, consistently with
+     * their implementation of {@link #equals(Object)}.
+     */
+    int hashCode0() {
+        return 0;
+    }
+
+    /**
+     * Compute a structural hash code from a QOM type and its arguments.
+     * <p>
+     * The hash code is memoised if all the arguments' hash codes cannot
+     * change, i.e. if they are not mutable {@link QueryPart} types, such as
+     * {@link Select}, or {@link Param}, whose value can be changed using
+     * {@link Param#setValue(Object)} or {@link Query#bind(int, Object)}.
+     */
+    final int hash(Object... args) {
+        int h = 1;
+        boolean memoise = true;
+
+        for (Object arg : args) {
+            h = 31 * h + (arg == null ? 0 : arg.hashCode());
+            memoise = memoise && stableHash(arg);
+        }
+
+        // Reserve 0 for non-structural QueryParts
+        if (h == 0)
+            h = 1;
+
+        if (memoise)
+            hash = h;
+        else
+            unstableHash = true;
+
+        return h;
+    }
+
+    private static final boolean stableHash(Object arg) {
+        if (arg instanceof AbstractQueryPart q) {
+
+            // Named QueryParts without a structural hash code hash their names
+            return q.hash != 0
+                || !q.unstableHash
+                && !(q instanceof Param)
+                && (q instanceof AbstractNamed || q instanceof AbstractName || q instanceof Keyword);
+        }
+        else if (arg instanceof Collection<?> c) {
+            for (Object o : c)
+                if (!stableHash(o))
+                    return false;
+
+            return true;
+        }
+        else
+            return !(arg instanceof QueryPart);
+    }
+
     @Override
     public String toString() {
         try {
@@ -51,6 +51,7 @@ import static org.jooq.impl.Tools.indexOrFail;
 import static org.jooq.impl.Tools.resetChangedOnNotNull;
 import static org.jooq.impl.Tools.settings;
 
+import java.io.ObjectOutputStream;
 import java.io.Writer;
 import java.sql.ResultSet;
 import java.util.ArrayList;
@@ -121,10 +122,30 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     final AbstractRow<? extends AbstractRecord> fields;
     final Object[]                              values;
-    final Object[]                              originals;
+
+    /**
+     * The original values, or <code>null</code> if they are the same as the
+     * {@link #values}, which is the case for records that have not been
+     * modified since they were fetched or created.
+     */
+    Object[]                                    originals;
     final BitSet                                changed;
     boolean                                     fetched;
 
+    /**
+     * Unboxed values of fixed width numeric columns, if
+     * {@link org.jooq.conf.Settings#isFetchPrimitiveRecordValues()} is active.
+     * <p>
+     * A column's value is stored here if {@link #values} or {@link #originals}
+     * contain the {@link #PRIMITIVE} marker at the column's index.
+     */
+    long[]                                      primitives;
+
+    /**
+     * A marker for values that are stored in {@link #primitives}.
+     */
+    static final Object                         PRIMITIVE = new Object();
+
     /**
      * @deprecated - 3.14.5 - [#8495] [#11058] - Re-use AbstractRow reference if possible
      */
@@ -146,7 +167,6 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         this.fields = (AbstractRow<? extends AbstractRecord>) fields;
         this.values = new Object[size];
-        this.originals = new Object[size];
         this.changed = new BitSet(size);
     }
 
@@ -346,7 +366,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object get(int index) {
-        return values[safeIndex(index)];
+        return value0(safeIndex(index));
     }
 
     @Override
@@ -453,7 +473,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         }
 
         // [#2698] If the primary key has not yet been set
-        else if (originals[index] == null) {
+        else if (originals0()[index] == null) {
             changed.set(index);
         }
 
@@ -463,13 +483,14 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         else {
 
             // [#945] Be sure that changed is never reset to false
-            changed.set(index, changed.get(index) || !StringUtils.equals(values[index], value));
+            changed.set(index, changed.get(index) || !StringUtils.equals(value0(index), value));
 
             if (changed.get(index)) {
                 changed(true);
             }
         }
 
+        originals();
         values[index] = value;
     }
 
@@ -497,8 +518,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
             int targetIndex = indexOrFail(this.fields, field);
             int sourceIndex = indexOrFail(record.fields, field);
 
+            originals()[targetIndex] = record.original(sourceIndex);
             values[targetIndex] = record.get(sourceIndex);
-            originals[targetIndex] = record.original(sourceIndex);
             changed.set(targetIndex, record.changed(sourceIndex));
         }
     }
@@ -508,7 +529,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         if (field(fieldIndex).getType() == String.class) {
             values[fieldIndex] = intern((String) values[fieldIndex]);
-            originals[fieldIndex] = intern((String) originals[fieldIndex]);
+
+            if (originals != null)
+                originals[fieldIndex] = intern((String) originals[fieldIndex]);
         }
     }
 
@@ -519,6 +542,133 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         throw new IllegalArgumentException("No field at index " + index + " in Record type " + fields);
     }
 
+    /**
+     * Store a fixed width numeric value in its unboxed form, as both the value
+     * and the original value of a column.
+     */
+    final void primitive(int index, long value) {
+        if (primitives == null)
+            primitives = new long[values.length];
+
+        primitives[index] = value;
+        value(index, PRIMITIVE);
+    }
+
+    /**
+     * Set a value as both the value and the original value of a column.
+     */
+    final void value(int index, Object value) {
+        values[index] = value;
+
+        if (originals != null)
+            originals[index] = value;
+    }
+
+    /**
+     * The original values, which are allocated as a copy of the
+     * {@link #values} prior to the first modification of the
+     * {@link #values}.
+     */
+    final Object[] originals() {
+        if (originals == null)
+            originals = values.clone();
+
+        return originals;
+    }
+
+    /**
+     * The original values, or the {@link #values} if they're the same.
+     */
+    final Object[] originals0() {
+        return originals != null ? originals : values;
+    }
+
+    /**
+     * Get a value, boxing and retaining it if it is stored in
+     * {@link #primitives}.
+     */
+    final Object value0(int index) {
+        Object result = values[index];
+
+        if (result == PRIMITIVE)
+            values[index] = result = box(index);
+
+        return result;
+    }
+
+    /**
+     * Get an original value, boxing it if it is stored in {@link #primitives}.
+     */
+    final Object original0(int index) {
+        Object result = originals0()[index];
+        return result == PRIMITIVE ? box(index) : result;
+    }
+
+    private final Object box(int index) {
+        return box(fields.field(index).getType(), primitives[index]);
+    }
+
+    /**
+     * Whether values of a type can be stored unboxed in a <code>long</code>.
+     */
+    static final boolean primitive(Class<?> type) {
+        return type == Integer.class
+            || type == Long.class
+            || type == Double.class
+            || type == Short.class
+            || type == Byte.class
+            || type == Float.class;
+    }
+
+    /**
+     * Box an unboxed value of a {@link #primitive(Class)} type.
+     */
+    static final Object box(Class<?> type, long value) {
+        if (type == Integer.class)
+            return (int) value;
+        else if (type == Long.class)
+            return value;
+        else if (type == Double.class)
+            return Double.longBitsToDouble(value);
+        else if (type == Short.class)
+            return (short) value;
+        else if (type == Byte.class)
+            return (byte) value;
+        else if (type == Float.class)
+            return Float.intBitsToFloat((int) value);
+        else
+            throw new IllegalStateException("Unsupported primitive type: " + type);
+    }
+
+    /**
+     * Unbox a value of a {@link #primitive(Class)} type.
+     */
+    static final long unbox(Class<?> type, Object value) {
+        if (type == Double.class)
+            return Double.doubleToRawLongBits(((Number) value).doubleValue());
+        else if (type == Float.class)
+            return Float.floatToRawIntBits(((Number) value).floatValue());
+        else
+            return ((Number) value).longValue();
+    }
+
+    private void writeObject(ObjectOutputStream oos) throws java.io.IOException {
+
+        // The PRIMITIVE marker cannot be serialised, as it is compared by identity
+        if (primitives != null) {
+            for (int i = 0; i < values.length; i++) {
+                value0(i);
+
+                if (originals != null && originals[i] == PRIMITIVE)
+                    originals[i] = box(i);
+            }
+
+            primitives = null;
+        }
+
+        oos.defaultWriteObject();
+    }
+
     final String intern(String string) {
         return string == null ? null : string.intern();
     }
@@ -537,8 +687,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public Record original() {
         return Tools.newRecord(fetched, (Class<AbstractRecord>) getClass(), fields, configuration())
                     .operate(record -> {
-                        for (int i = 0; i < originals.length; i++)
-                            record.values[i] = record.originals[i] = originals[i];
+                        for (int i = 0; i < values.length; i++)
+                            record.value(i, original0(i));
 
                         return record;
                     });
@@ -551,7 +701,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
     @Override
     public final Object original(int fieldIndex) {
-        return originals[safeIndex(fieldIndex)];
+        return original0(safeIndex(fieldIndex));
     }
 
     @Override
@@ -596,7 +746,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
         if (!c) {
-            System.arraycopy(values, 0, originals, 0, values.length);
+            originals = null;
         }
     }
 
@@ -613,7 +763,7 @@ abstract class AbstractRecord extends AbstractStore implements Record {
 
         // [#1995] If a value is meant to be "unchanged", the "original" should
         // match the supposedly "unchanged" value.
-        if (!c)
+        if (!c && originals != null)
             originals[fieldIndex] = values[fieldIndex];
     }
 
@@ -631,7 +781,10 @@ abstract class AbstractRecord extends AbstractStore implements Record {
     public final void reset() {
         changed.clear();
 
-        System.arraycopy(originals, 0, values, 0, originals.length);
+        if (originals != null) {
+            System.arraycopy(originals, 0, values, 0, originals.length);
+            originals = null;
+        }
     }
 
     @Override
@@ -644,7 +797,9 @@ abstract class AbstractRecord extends AbstractStore implements Record {
         safeIndex(fieldIndex);
 
         changed.clear(fieldIndex);
-        values[fieldIndex] = originals[fieldIndex];
+
+        if (originals != null)
+            values[fieldIndex] = originals[fieldIndex];
     }
 
     @Override
@@ -873,8 +1028,8 @@ abstract class AbstractRecord extends AbstractStore implements Record {
                         if (sourceIndex >= 0) {
                             DataType<?> targetType = targetField.getDataType();
 
-                            t.values[targetIndex] = targetType.convert(values[sourceIndex]);
-                            t.originals[targetIndex] = targetType.convert(originals[sourceIndex]);
+                            t.originals()[targetIndex] = targetType.convert(original0(sourceIndex));
+                            t.values[targetIndex] = targetType.convert(value0(sourceIndex));
                             t.changed.set(targetIndex, changed.get(sourceIndex));
                         }
                     }
@@ -135,6 +135,15 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         return fields;
     }
 
+    /**
+     * Iterate over the records for operations that do not retain them beyond
+     * the current iteration step, which allows for reusing a single record
+     * instance.
+     */
+    Iterable<R> flyweight() {
+        return this;
+    }
+
     // -------------------------------------------------------------------------
     // XXX: Formattable API
     // -------------------------------------------------------------------------
@@ -398,7 +407,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(format.newline());
             }
 
-            for (R record : this) {
+            for (R record : flyweight()) {
                 record = nullSafe(record);
                 String sep2 = "";
 
@@ -559,7 +568,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
             switch (format.recordFormat()) {
                 case ARRAY:
-                    for (Record record : this) {
+                    for (Record record : flyweight()) {
                         hasRecords = true;
                         writer.append(separator);
 
@@ -572,7 +581,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
 
                     break;
                 case OBJECT:
-                    for (Record record : this) {
+                    for (Record record : flyweight()) {
                         hasRecords = true;
                         writer.append(separator);
 
@@ -809,7 +818,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 writer.append(newline).append(format.indentString(1)).append("<records>");
             }
 
-            for (Record record : this) {
+            for (Record record : flyweight()) {
                 writer.append(newline).append(format.indentString(recordLevel));
                 formatXMLRecord(writer, format, recordLevel, record, fields);
             }
@@ -1090,7 +1099,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
         DSLContext ctx = configuration.dsl();
 
         try {
-            for (R record : this) {
+            for (R record : flyweight()) {
                 if (table == null)
                     if (record instanceof TableRecord<?> r)
                         table = r.getTable();
@@ -1125,7 +1134,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             writer.append("</thead>");
             writer.append("<tbody>");
 
-            for (R record : this) {
+            for (R record : flyweight()) {
                 record = nullSafe(record);
                 writer.append("<tr>");
 
@@ -1195,7 +1204,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
                 eRecordParent = eRecords;
             }
 
-            for (Record record : this) {
+            for (Record record : flyweight()) {
                 Element eRecord = document.createElement("record");
                 eRecordParent.appendChild(eRecord);
 
@@ -1325,7 +1334,7 @@ abstract class AbstractResult<R extends Record> extends AbstractFormattable impl
             handler.startElement("", "", "records", empty);
         }
 
-        for (Record record : this) {
+        for (Record record : flyweight()) {
             handler.startElement("", "", "record", empty);
 
             int size = fields.size();
@@ -152,6 +152,10 @@ implements
         return fetchSize;
     }
 
+    final int maxRows() {
+        return maxRows;
+    }
+
     @Override
     public final CloseableResultQuery<R> resultSetConcurrency(int concurrency) {
         this.resultSetConcurrency = concurrency;
@@ -276,6 +280,30 @@ implements
         return result != null ? result.size() : 0;
     }
 
+    @Override
+    final int executeSplit(Configuration c) {
+        Result<R> r;
+
+        if (many || coerceFields != null || (r = fetchSplit(c)) == null)
+            return -1;
+
+        if (lazy)
+            cursor = new ResultAsCursor<>(r);
+        else
+            result = r;
+
+        return r.size();
+    }
+
+    /**
+     * Subclasses may override this to fetch the result of this query with
+     * several other queries. Returns <code>null</code> if this query isn't
+     * split.
+     */
+    Result<R> fetchSplit(Configuration c) {
+        return null;
+    }
+
     @Override
     protected final boolean keepResultSet() {
         return lazy;
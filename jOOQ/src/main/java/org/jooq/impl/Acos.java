@@ -197,4 +197,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Acos.class, $value());
+    }
 }
@@ -244,4 +244,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Acoth.class, $value());
+    }
 }
@@ -228,4 +228,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.ArrayGet.class, $array(), $index());
+    }
 }
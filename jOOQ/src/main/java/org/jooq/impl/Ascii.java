@@ -183,4 +183,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Ascii.class, $string());
+    }
 }
@@ -193,4 +193,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Asin.class, $value());
+    }
 }
@@ -226,4 +226,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Asinh.class, $value());
+    }
 }
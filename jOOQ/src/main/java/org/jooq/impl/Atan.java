@@ -180,4 +180,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Atan.class, $value());
+    }
 }
@@ -37,8 +37,6 @@
  */
 package org.jooq.impl;
 
-import static org.jooq.ContextConverter.scoped;
-
 import org.jooq.Configuration;
 import org.jooq.ConverterContext;
 
@@ -56,12 +54,12 @@ public /* non-final */ class AutoConverter<T, U> extends AbstractContextConverte
 
     @Override
     public U from(T t, ConverterContext ctx) {
-        return scoped(ctx.configuration().converterProvider().provide(fromType(), toType())).from(t, ctx);
+        return Tools.converter(ctx.configuration(), fromType(), toType()).from(t, ctx);
     }
 
     @Override
     public T to(U u, ConverterContext ctx) {
-        return scoped(ctx.configuration().converterProvider().provide(fromType(), toType())).to(u, ctx);
+        return Tools.converter(ctx.configuration(), fromType(), toType()).to(u, ctx);
     }
 
     @Override
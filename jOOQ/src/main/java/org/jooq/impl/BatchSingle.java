@@ -211,6 +211,12 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
             if (t != 0)
                 ctx.statement().setQueryTimeout(t);
 
+            // The bindings of the collected params are resolved only once for all bind value sets
+            BindingPlan plan = BindingPlan.batch(configuration, params);
+            DefaultBindingSetStatementContext<Object> planContext = plan != null
+                ? BindingPlan.setContext(configuration, ctx.statement())
+                : null;
+
             for (Object[] bindValues : allBindValues) {
                 listener.bindStart(ctx);
 
@@ -218,10 +224,11 @@ final class BatchSingle extends AbstractBatch implements BatchBindStep {
                 //                 list to preserve type information
                 // [#3547]         The original query may have no Params specified - e.g. when it was constructed with
                 //                 plain SQL. In that case, infer the bind value type directly from the bind value
-                visitAll(new DefaultBindContext(configuration, ctx, ctx.statement()),
-                    (params.length > 0)
-                        ? fields(bindValues, params)
-                        : fields(bindValues));
+                if (plan == null || !plan.set(planContext, bindValues))
+                    visitAll(new DefaultBindContext(configuration, ctx, ctx.statement()),
+                        (params.length > 0)
+                            ? fields(bindValues, params)
+                            : fields(bindValues));
 
                 listener.bindEnd(ctx);
                 ctx.statement().addBatch();
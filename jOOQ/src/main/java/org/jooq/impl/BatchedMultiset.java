@@ -0,0 +1,526 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package org.jooq.impl;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.jooq.impl.DSL.and;
+import static org.jooq.impl.DSL.noCondition;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.DefaultRenderContext.bindValueLimit;
+import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.map;
+import static org.jooq.impl.Tools.newRecord;
+import static org.jooq.impl.Tools.row0;
+import static org.jooq.impl.Tools.selectQueryImpl;
+import static org.jooq.impl.Tools.unalias;
+import static org.jooq.impl.Tools.uncoerce;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jooq.Asterisk;
+import org.jooq.BindContext;
+import org.jooq.Condition;
+import org.jooq.Configuration;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.QualifiedAsterisk;
+import org.jooq.QueryPartInternal;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.Table;
+import org.jooq.TableField;
+import org.jooq.conf.NestedCollectionEmulation;
+
+/**
+ * The {@link NestedCollectionEmulation#BATCHED} emulation of
+ * <code>MULTISET</code>.
+ * <p>
+ * A <code>MULTISET</code> in the <code>SELECT</code> clause of a query, which
+ * is correlated with the query only by equality predicates in its
+ * <code>WHERE</code> clause, is fetched with a separate query for all the
+ * records of the parent query at once, and stitched into the parent records in
+ * the client. For example:
+ *
+ * <pre>
+ * <code>
+ * SELECT a.id, MULTISET (SELECT b.x FROM b WHERE b.a_id = a.id) FROM a
+ * </code>
+ * </pre>
+ * <p>
+ * Is executed as:
+ *
+ * <pre>
+ * <code>
+ * SELECT a.id, a.id FROM a;
+ * SELECT b.x, b.a_id FROM b WHERE b.a_id IN (?, ?, ...);
+ * </code>
+ * </pre>
+ * <p>
+ * Nested <code>MULTISET</code>s are batched again when their parent query is
+ * executed, resulting in one query per level. Other <code>MULTISET</code>s
+ * are emulated as usual, inside of the parent query.
+ *
+ * @author Lukas Eder
+ */
+final class BatchedMultiset {
+
+    private BatchedMultiset() {}
+
+    /**
+     * Fetch a query's result, batching its <code>MULTISET</code>s, or return
+     * <code>null</code> if none of them can be batched.
+     */
+    @SuppressWarnings("unchecked")
+    static final <R extends Record> Result<R> fetch(SelectQueryImpl<R> query, Configuration c) {
+        if (c.settings().getEmulateMultiset() != NestedCollectionEmulation.BATCHED
+
+            // Projecting the correlation keys in addition to the SELECT
+            // clause must not change the parent query's records
+            || query.hasUnions()
+            || query.$distinct()
+            || !query.$groupBy().isEmpty()
+            || query.$having() != null)
+            return null;
+
+        List<Table<?>> tables = tables(query.$from(), new ArrayList<>());
+        List<? extends SelectFieldOrAsterisk> select = query.$select();
+        Nested[] nested = new Nested[select.size()];
+        List<SelectFieldOrAsterisk> parentSelect = new ArrayList<>();
+        List<Field<?>> parentKeys = new ArrayList<>();
+        int asterisks = 0;
+
+        for (int i = 0; i < nested.length; i++) {
+            SelectFieldOrAsterisk s = select.get(i);
+
+            if (s instanceof Field<?> f
+                && uncoerce(unalias(uncoerce(f))) instanceof Multiset<?> m
+                && (nested[i] = nested(c, m, tables)) != null)
+                parentKeys.addAll(nested[i].outerKeys);
+            else {
+                if (isAsterisk(s))
+                    asterisks++;
+
+                parentSelect.add(s);
+            }
+        }
+
+        // The number of fields produced by an asterisk is known only if
+        // there's at most one asterisk
+        if (parentSelect.size() == nested.length || asterisks > 1)
+            return null;
+
+        int parentSize = parentSelect.size();
+        parentSelect.addAll(parentKeys);
+        SelectQueryImpl<?> parent = query.$select(parentSelect);
+        parent.maxRows(query.maxRows()).fetchSize(query.fetchSize());
+        Result<?> parentResult = c.dsl().fetch(parent);
+
+        // The parent result's fields are followed by the correlation keys.
+        // Each of the result's fields is either copied from a parent field,
+        // or a nested result.
+        int keyIndex = parentResult.fieldsRow().size() - parentKeys.size();
+        List<Field<?>> fields = new ArrayList<>();
+        List<Integer> sources = new ArrayList<>();
+        List<Nested> targets = new ArrayList<>();
+
+        for (int i = 0, k = 0; i < nested.length; i++) {
+            SelectFieldOrAsterisk s = select.get(i);
+
+            if (nested[i] != null) {
+                nested[i].keyIndex = keyIndex;
+                keyIndex += nested[i].outerKeys.size();
+
+                fields.add((Field<?>) s);
+                sources.add(-1);
+                targets.add(nested[i]);
+            }
+            else {
+                for (int j = 0, w = isAsterisk(s) ? parentResult.fieldsRow().size() - parentKeys.size() - parentSize + 1 : 1; j < w; j++) {
+                    fields.add(parentResult.field(k));
+                    sources.add(k++);
+                    targets.add(null);
+                }
+            }
+        }
+
+        for (Nested n : nested)
+            if (n != null)
+                n.fetch(c, parentResult, query.fetchSize());
+
+        AbstractRow<R> row = (AbstractRow<R>) row0(fields.toArray(EMPTY_FIELD));
+        Class<? extends R> recordType = query.getRecordType();
+        Result<R> result = new ResultImpl<>(c, row);
+
+        for (Record parentRecord : parentResult) {
+            result.add(newRecord(true, recordType, row, c).operate(r -> {
+                for (int j = 0; j < fields.size(); j++) {
+                    Nested n = targets.get(j);
+
+                    ((AbstractRecord) r).value(j, n != null
+                        ? fields.get(j).getDataType().convert((Object) n.result(c, parentRecord))
+                        : parentRecord.get(sources.get(j))
+                    );
+                }
+
+                return r;
+            }));
+        }
+
+        return result;
+    }
+
+    /**
+     * Decorrelate a <code>MULTISET</code> subquery from its parent query, or
+     * return <code>null</code> if that isn't possible.
+     */
+    private static final Nested nested(Configuration c, Multiset<?> m, List<Table<?>> tables) {
+        SelectQueryImpl<?> s = selectQueryImpl(m.select);
+
+        // Predicates, grouping, and limits must apply per parent record
+        if (s == null || !Multiset.isSimple(s))
+            return null;
+
+        List<Table<?>> inner = tables(s.$from(), new ArrayList<>());
+        List<Table<?>> outer = new ArrayList<>();
+
+        for (Table<?> t : tables)
+            if (!inner.contains(t))
+                outer.add(t);
+
+        List<Condition> where = new ArrayList<>();
+        List<Field<?>> innerKeys = new ArrayList<>();
+        List<Field<?>> outerKeys = new ArrayList<>();
+
+        for (Condition condition : conjuncts(s.$where(), new ArrayList<>())) {
+            if (condition instanceof QOM.Eq<?> eq && isKey(eq.$arg1()) && isKey(eq.$arg2())) {
+                if (isOuter(eq.$arg2(), outer) && !isOuter(eq.$arg1(), outer)) {
+                    innerKeys.add(eq.$arg1());
+                    outerKeys.add(eq.$arg2());
+                    continue;
+                }
+                else if (isOuter(eq.$arg1(), outer) && !isOuter(eq.$arg2(), outer)) {
+                    innerKeys.add(eq.$arg2());
+                    outerKeys.add(eq.$arg1());
+                    continue;
+                }
+            }
+
+            where.add(condition);
+        }
+
+        List<Field<?>> select = new ArrayList<>(s.getSelect());
+        select.addAll(innerKeys);
+        Select<?> query = s.$select(select).$where(noCondition());
+
+        // Apart from the correlation predicates, the subquery must not
+        // reference the parent query
+        Condition remaining = where.isEmpty() ? noCondition() : and(where);
+        References references = new References(c, outer);
+        references.visit(query);
+        references.visit(remaining);
+
+        if (references.unsupported)
+            return null;
+        else
+            return new Nested(m, query, remaining, innerKeys, outerKeys, references.binds);
+    }
+
+    private static final boolean isAsterisk(SelectFieldOrAsterisk s) {
+        return s instanceof Asterisk || s instanceof QualifiedAsterisk;
+    }
+
+    private static final boolean isOuter(Field<?> f, List<Table<?>> outer) {
+        return uncoerce(f) instanceof TableField<?, ?> t && outer.contains(t.getTable());
+    }
+
+    /**
+     * Whether a field references an outer table, either as a
+     * {@link TableField} of that table, or by a qualified name that may
+     * resolve to that table.
+     */
+    private static final boolean references(TableField<?, ?> f, List<Table<?>> outer) {
+        if (outer.contains(f.getTable()))
+            return true;
+
+        if (f.getQualifiedName().qualified()) {
+            String qualifier = f.getQualifiedName().qualifier().last();
+
+            for (Table<?> t : outer)
+                if (qualifier.equalsIgnoreCase(t.getName()))
+                    return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Whether values of a field can be grouped by Java equality in the client,
+     * after having been matched with SQL equality in the database.
+     * <p>
+     * This excludes e.g. strings, which may be subject to case or pad
+     * insensitive collations, approximate numerics, time zone aware temporal
+     * types, binary types, and any types with converters.
+     */
+    private static final boolean isKey(Field<?> f) {
+        DataType<?> t = f.getDataType();
+        DataType<?> s = t.getSQLDataType();
+
+        if (s == null || t.getType() != s.getType())
+            return false;
+
+        Class<?> type = s.getType();
+        return s.isInteger()
+            || s.isBoolean()
+            || type == BigDecimal.class
+            || type == BigInteger.class
+            || type == UUID.class
+            || type == LocalDate.class
+            || type == LocalTime.class
+            || type == LocalDateTime.class
+            || type == Date.class
+            || type == Time.class
+            || type == Timestamp.class;
+    }
+
+    private static final List<Table<?>> tables(List<? extends Table<?>> from, List<Table<?>> result) {
+        for (Table<?> t : from)
+            if (t instanceof JoinTable j)
+                tables(Arrays.asList(j.lhs, j.rhs), result);
+            else
+                result.add(t);
+
+        return result;
+    }
+
+    private static final List<Condition> conjuncts(Condition condition, List<Condition> result) {
+        if (condition instanceof QOM.And and) {
+            conjuncts(and.$arg1(), result);
+            conjuncts(and.$arg2(), result);
+        }
+        else if (condition != null)
+            result.add(condition);
+
+        return result;
+    }
+
+    /**
+     * A batched <code>MULTISET</code> subquery.
+     */
+    private static final class Nested {
+        final AbstractRow<Record>             row;
+        final Class<? extends Record>         recordType;
+        final Select<?>                       query;
+        final Condition                       where;
+        final List<Field<?>>                  innerKeys;
+        final List<Field<?>>                  outerKeys;
+        final int                             binds;
+        final Map<List<Object>, List<Record>> groups;
+        int                                   keyIndex;
+
+        @SuppressWarnings("unchecked")
+        Nested(
+            Multiset<?> m,
+            Select<?> query,
+            Condition where,
+            List<Field<?>> innerKeys,
+            List<Field<?>> outerKeys,
+            int binds
+        ) {
+            this.row = (AbstractRow<Record>) m.getDataType().getRow();
+            this.recordType = (Class<? extends Record>) m.getDataType().getRecordType();
+            this.query = query;
+            this.where = where;
+            this.innerKeys = innerKeys;
+            this.outerKeys = outerKeys;
+            this.binds = binds;
+            this.groups = new HashMap<>();
+        }
+
+        /**
+         * Fetch the nested records of all parent records, in chunks of keys
+         * that fit within the bind value limit.
+         */
+        final void fetch(Configuration c, Result<?> parent, int fetchSize) {
+            if (parent.isEmpty())
+                return;
+
+            if (outerKeys.isEmpty()) {
+                fetch0(c, noCondition(), fetchSize);
+                return;
+            }
+
+            Set<List<Object>> distinct = new LinkedHashSet<>();
+            for (Record record : parent) {
+                List<Object> key = key(record, keyIndex);
+
+                if (key != null)
+                    distinct.add(key);
+            }
+
+            List<List<Object>> keys = new ArrayList<>(distinct);
+            int limit = bindValueLimit(c);
+            int chunk = limit == 0 ? keys.size() : max(1, (limit - binds) / outerKeys.size());
+
+            for (int i = 0; i < keys.size(); i += chunk)
+                fetch0(c, in(keys.subList(i, min(i + chunk, keys.size()))), fetchSize);
+        }
+
+        @SuppressWarnings("unchecked")
+        private final Condition in(List<List<Object>> keys) {
+            if (innerKeys.size() == 1) {
+                Field<Object> f = (Field<Object>) innerKeys.get(0);
+                return f.in(map(keys, k -> val(k.get(0), f)));
+            }
+            else
+                return row(innerKeys.toArray(EMPTY_FIELD)).in(map(keys, k -> row(map(k, (v, i) -> val(v, innerKeys.get(i))).toArray(EMPTY_FIELD))));
+        }
+
+        private final void fetch0(Configuration c, Condition condition, int fetchSize) {
+            SelectQueryImpl<?> s = selectQueryImpl(query.$where(and(where, condition)));
+            s.fetchSize(fetchSize);
+
+            for (Record record : c.dsl().fetch(s))
+                groups.computeIfAbsent(key(record, row.size()), k -> new ArrayList<>()).add(record);
+        }
+
+        /**
+         * The correlation key of a record, converted to the parent query's
+         * types, or <code>null</code> if the key contains <code>NULL</code>
+         * values, which don't correlate with anything.
+         */
+        private final List<Object> key(Record record, int index) {
+            Object[] key = new Object[outerKeys.size()];
+
+            for (int i = 0; i < key.length; i++) {
+                if ((key[i] = outerKeys.get(i).getDataType().convert(record.get(index + i))) == null)
+                    return null;
+
+                // SQL equality of decimals ignores their scale
+                else if (key[i] instanceof BigDecimal d)
+                    key[i] = d.signum() == 0 ? BigDecimal.ZERO : d.stripTrailingZeros();
+            }
+
+            return Arrays.asList(key);
+        }
+
+        /**
+         * The nested result of a parent record.
+         */
+        final Result<Record> result(Configuration c, Record parent) {
+            Result<Record> result = new ResultImpl<>(c, row);
+            List<Record> group = groups.get(key(parent, keyIndex));
+
+            // Each parent record gets its own copy of the nested records,
+            // even if several parent records share the same key
+            if (group != null)
+                for (Record record : group)
+                    result.add(newRecord(true, recordType, row, c).operate(r -> {
+                        for (int i = 0; i < row.size(); i++)
+                            ((AbstractRecord) r).value(i, record.get(i));
+
+                        return r;
+                    }));
+
+            return result;
+        }
+    }
+
+    /**
+     * A stub {@link BindContext} that checks whether a subquery can be
+     * executed separately from its parent query.
+     */
+    private static final class References extends AbstractBindContext {
+        final List<Table<?>> outer;
+        boolean              unsupported;
+        int                  binds;
+        int                  depth;
+
+        References(Configuration configuration, List<Table<?>> outer) {
+            super(configuration, null, null);
+
+            this.outer = outer;
+        }
+
+        @Override
+        protected final void bindInternal(QueryPartInternal internal) {
+
+            // References to the parent query, plain SQL, which may contain
+            // such references, and aggregate or window functions, which would
+            // be computed across parent records
+            if (internal instanceof TableField<?, ?> f && references(f, outer)
+                || internal instanceof SQLImpl
+                || depth == 1 && internal instanceof AbstractWindowFunction)
+                unsupported = true;
+
+            if (internal instanceof SelectQueryImpl) {
+                depth++;
+                super.bindInternal(internal);
+                depth--;
+            }
+            else
+                super.bindInternal(internal);
+        }
+
+        @Override
+        protected final BindContext bindValue0(Object value, Field<?> field) throws SQLException {
+            binds++;
+            return this;
+        }
+    }
+}
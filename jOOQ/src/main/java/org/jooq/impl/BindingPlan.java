@@ -0,0 +1,198 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.Tools.map;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.jooq.BindContext;
+import org.jooq.Binding;
+import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
+import org.jooq.Converter;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.QualifiedRecord;
+import org.jooq.QueryPart;
+
+/**
+ * A plan for transferring values between JDBC and a list of {@link Field}
+ * slots.
+ * <p>
+ * Each slot's {@link Binding} (and thus its {@link Converter} and the
+ * {@link DefaultBinding} implementation chosen for the slot's Java type) is
+ * resolved once when the plan is created, rather than once per value. When
+ * binding, the plan also avoids visiting a {@link BindContext} and allocating
+ * new {@link DefaultBindingSetStatementContext} instances for each bind value.
+ *
+ * @author Lukas Eder
+ */
+final class BindingPlan {
+
+    private final Field<?>[]      fields;
+    private final Binding<?, ?>[] bindings;
+
+    BindingPlan(Field<?>[] fields) {
+        this.fields = fields;
+        this.bindings = map(fields, f -> f.getBinding(), Binding[]::new);
+    }
+
+    /**
+     * A plan for binding the {@link Param} values collected while rendering a
+     * statement, or <code>null</code> if those values have to be bound by
+     * visiting them with a {@link BindContext}.
+     */
+    static final BindingPlan bindValues(Configuration configuration, List<? extends Param<?>> params) {
+        if (!direct(configuration))
+            return null;
+
+        for (Param<?> p : params)
+            if (!(p instanceof Val) || p.isInline() || p.getDataType().isEmbeddable())
+                return null;
+
+        return new BindingPlan(params.toArray(Tools.EMPTY_FIELD));
+    }
+
+    /**
+     * A plan for binding batch values of the types of a statement's
+     * {@link Param} values, or <code>null</code> if those values have to be
+     * bound by visiting them with a {@link BindContext}.
+     */
+    static final BindingPlan batch(Configuration configuration, Param<?>[] params) {
+        if (!direct(configuration) || params.length == 0)
+            return null;
+
+        for (Param<?> p : params)
+            if (p.getDataType().isEmbeddable())
+                return null;
+
+        return new BindingPlan(params);
+    }
+
+    private static final boolean direct(Configuration configuration) {
+
+        // VisitListeners must be able to observe bind values
+        return configuration.visitListenerProviders().length == 0;
+    }
+
+    final int size() {
+        return fields.length;
+    }
+
+    /**
+     * Create a context that can be reused for all bind values of a statement
+     * execution.
+     */
+    static final DefaultBindingSetStatementContext<Object> setContext(Configuration configuration, PreparedStatement statement) {
+        return new DefaultBindingSetStatementContext<>(new SimpleExecuteContext(configuration, null), statement, 0, null);
+    }
+
+    /**
+     * Bind the values of the {@link Param} values that this plan was created
+     * from.
+     */
+    final void set(DefaultBindingSetStatementContext<Object> ctx) {
+        for (int i = 0; i < fields.length; i++)
+            set(ctx, i, ((Param<?>) fields[i]).getValue());
+    }
+
+    /**
+     * Bind a row of batch values, or return <code>false</code> if the row
+     * cannot be bound directly, and needs to be bound by visiting it with a
+     * {@link BindContext}.
+     * <p>
+     * This requires the same type coercion as {@link DSL#val(Object, DataType)}
+     * to produce the data type that this plan has already resolved.
+     */
+    final boolean set(DefaultBindingSetStatementContext<Object> ctx, Object[] values) {
+        if (values.length != fields.length)
+            return false;
+
+        Object[] converted = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+
+            if (value instanceof QueryPart || value instanceof QualifiedRecord)
+                return false;
+
+            DataType<?> type = fields[i].getDataType();
+            converted[i] = type.convert(value);
+
+            // [#2007] See DSL.mostSpecific()
+            if (converted[i] != null
+                    && !(type instanceof ConvertedDataType)
+                    && converted[i].getClass() != type.getType()
+                    && type.getType().isAssignableFrom(converted[i].getClass()))
+                return false;
+        }
+
+        for (int i = 0; i < converted.length; i++)
+            set(ctx, i, converted[i]);
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private final void set(DefaultBindingSetStatementContext<Object> ctx, int index, Object value) {
+        int jdbcIndex = index + 1;
+
+        try {
+            ctx.index(jdbcIndex);
+            ctx.value(value);
+            ((Binding<?, Object>) bindings[index]).set(ctx);
+        }
+        catch (Exception e) {
+            throw Tools.translate(null, new SQLException("Error while writing value at JDBC bind index: " + jdbcIndex, e));
+        }
+    }
+
+    /**
+     * Read the value of a slot from a {@link java.sql.ResultSet}.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    final Object get(DefaultBindingGetResultSetContext<?> ctx, int index, int jdbcIndex) throws SQLException {
+        ctx.index(jdbcIndex);
+        ctx.field((Field) fields[index]);
+        ((Binding<?, Object>) bindings[index]).get((BindingGetResultSetContext<Object>) ctx);
+        return ctx.value();
+    }
+}
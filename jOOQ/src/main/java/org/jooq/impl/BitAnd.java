@@ -203,4 +203,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.BitAnd.class, $arg1(), $arg2());
+    }
 }
@@ -515,4 +515,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.BitCount.class, $value());
+    }
 }
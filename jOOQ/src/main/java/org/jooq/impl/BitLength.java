@@ -233,4 +233,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.BitLength.class, $string());
+    }
 }
@@ -190,4 +190,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.BitNot.class, $arg1());
+    }
 }
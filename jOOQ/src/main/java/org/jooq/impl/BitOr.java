@@ -212,4 +212,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.BitOr.class, $arg1(), $arg2());
+    }
 }
@@ -236,4 +236,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.BitXNor.class, $arg1(), $arg2());
+    }
 }
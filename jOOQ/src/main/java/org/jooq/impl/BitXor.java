@@ -215,4 +215,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.BitXor.class, $arg1(), $arg2());
+    }
 }
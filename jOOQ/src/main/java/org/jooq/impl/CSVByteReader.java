@@ -0,0 +1,573 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package org.jooq.impl;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.jooq.tools.csv.CSVParser;
+import org.jooq.tools.csv.CSVReader;
+
+/**
+ * A CSV reader that parses raw bytes, rather than characters.
+ * <p>
+ * This reader produces the same rows as {@link CSVReader}, but avoids decoding
+ * and buffering lines of characters. Separators, quotes, escapes and line
+ * terminators are found on the bytes of a {@link ByteBuffer}, and only values
+ * are decoded to {@link String}, optionally only for some
+ * {@link #columns(BitSet)}. {@link FileChannel} contents are memory-mapped,
+ * other {@link ReadableByteChannel} contents are read into a heap buffer.
+ * <p>
+ * This works only for charsets that encode all ASCII characters as single
+ * bytes, which never appear in encodings of other characters, see
+ * {@link #supports(Charset, char...)}.
+ *
+ * @author Lukas Eder
+ */
+final class CSVByteReader implements Closeable, Iterator<String[]> {
+
+    private static final int          CHANNEL_BUFFER_SIZE = 1 << 20;
+    private static final int          MAPPED_WINDOW_SIZE  = 1 << 28;
+    private static final String[]     INCOMPLETE          = {};
+
+    private final ReadableByteChannel channel;
+    private final Charset             charset;
+    private final boolean             utf8;
+    private final byte                separator;
+    private final byte                quotechar;
+    private final byte                escape;
+    private final boolean             strictQuotes;
+    private final boolean             ignoreLeadingWhiteSpace;
+    private int                       skipLines;
+    private BitSet                    columns;
+
+    private ByteBuffer                buffer;
+    private long                      base;
+    private int                       window;
+    private int                       pos;
+    private boolean                   eof;
+    private boolean                   inField;
+    private String[]                  next;
+
+    // The current token, either a range of the buffer, or a copy
+    private int                       tokenFrom;
+    private int                       tokenTo;
+    private byte[]                    copy                = new byte[CSVParser.INITIAL_READ_SIZE];
+    private int                       copyLength;
+    private boolean                   copied;
+
+    // The last record, and its raw bytes if only some columns are decoded
+    private String[]                  last;
+    private byte[]                    lastBytes           = new byte[CSVParser.INITIAL_READ_SIZE];
+    private int                       lastLength;
+
+    CSVByteReader(ByteBuffer buffer, Charset charset, char separator, char quotechar, int line) {
+        this(null, buffer, charset, separator, quotechar, line);
+    }
+
+    CSVByteReader(ReadableByteChannel channel, Charset charset, char separator, char quotechar, int line) {
+        this(channel, null, charset, separator, quotechar, line);
+    }
+
+    private CSVByteReader(ReadableByteChannel channel, ByteBuffer buffer, Charset charset, char separator, char quotechar, int line) {
+        if (!supports(charset, separator, quotechar, CSVParser.DEFAULT_ESCAPE_CHARACTER))
+            throw new IllegalArgumentException("Charset " + charset + " or special characters are not supported by byte parsing");
+
+        // Validate the special characters like the CSVParser does
+        new CSVParser(separator, quotechar);
+
+        this.channel = channel;
+        this.charset = charset;
+        this.utf8 = UTF_8.equals(charset);
+        this.separator = (byte) separator;
+        this.quotechar = (byte) quotechar;
+        this.escape = (byte) CSVParser.DEFAULT_ESCAPE_CHARACTER;
+        this.strictQuotes = CSVParser.DEFAULT_STRICT_QUOTES;
+        this.ignoreLeadingWhiteSpace = CSVParser.DEFAULT_IGNORE_LEADING_WHITESPACE;
+        this.skipLines = line;
+
+        if (buffer != null) {
+            this.buffer = buffer.slice();
+            this.eof = true;
+        }
+        else {
+            this.buffer = ByteBuffer.allocate(0);
+            this.window = channel instanceof FileChannel ? MAPPED_WINDOW_SIZE : CHANNEL_BUFFER_SIZE;
+        }
+    }
+
+    /**
+     * Whether a charset and special characters can be parsed on bytes.
+     */
+    static final boolean supports(Charset charset, char... characters) {
+        if (!UTF_8.equals(charset) && !US_ASCII.equals(charset) && !ISO_8859_1.equals(charset))
+            return false;
+
+        for (char c : characters)
+            if (c >= 0x80)
+                return false;
+
+        return true;
+    }
+
+    /**
+     * Decode only values of the given column indexes, producing
+     * <code>null</code> for other columns, or decode all values if
+     * <code>null</code>.
+     */
+    final CSVByteReader columns(BitSet c) {
+        this.columns = c;
+        return this;
+    }
+
+    /**
+     * Read all remaining rows.
+     */
+    final List<String[]> readAll() throws IOException {
+        List<String[]> result = new ArrayList<>();
+        String[] row;
+
+        while ((row = readNext()) != null)
+            result.add(row);
+
+        return result;
+    }
+
+    /**
+     * Read the next row, or <code>null</code> if there are no more rows.
+     */
+    final String[] readNext() throws IOException {
+        if (next != null) {
+            String[] result = next;
+            next = null;
+            return result;
+        }
+
+        for (;;) {
+            boolean f = inField;
+
+            while (skipLines > 0) {
+                int end = skipLine(pos);
+
+                if (end == -1) {
+                    if (eof)
+                        return null;
+
+                    fill();
+                }
+                else {
+                    pos = end;
+                    skipLines--;
+                }
+            }
+
+            int from = pos;
+            String[] result = parseRecord();
+
+            if (result != INCOMPLETE) {
+                if (result != null)
+                    last(from, result);
+
+                return result;
+            }
+
+            // Parse the record again, once more content is available
+            inField = f;
+            fill();
+        }
+    }
+
+    /**
+     * Retain the last record, and its raw bytes if only some columns are
+     * decoded.
+     */
+    private final void last(int from, String[] record) {
+        last = record;
+
+        if (columns == null)
+            return;
+
+        lastLength = pos - from;
+
+        if (lastBytes.length < lastLength)
+            lastBytes = new byte[Math.max(lastLength, lastBytes.length * 2)];
+
+        buffer.get(from, lastBytes, 0, lastLength);
+    }
+
+    /**
+     * The last record that was read, with all its values decoded, even if
+     * only some {@link #columns(BitSet)} are decoded.
+     */
+    final String[] decodeLast() {
+        if (columns == null || last == null)
+            return last;
+
+        try {
+            return new CSVByteReader(ByteBuffer.wrap(lastBytes, 0, lastLength), charset, (char) separator, (char) quotechar, 0).readNext();
+        }
+        catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Skip a line starting at a position.
+     *
+     * @return The position after the line's terminator, or <code>-1</code> if
+     *         the line isn't complete in the buffer.
+     */
+    private final int skipLine(int from) {
+        int limit = buffer.limit();
+
+        for (int i = from; i < limit; i++) {
+            byte b = buffer.get(i);
+
+            if (b == '\n')
+                return i + 1;
+            else if (b == '\r')
+                if (i + 1 < limit)
+                    return buffer.get(i + 1) == '\n' ? i + 2 : i + 1;
+                else
+                    return eof ? i + 1 : -1;
+        }
+
+        return eof && from < limit ? limit : -1;
+    }
+
+    /**
+     * Parse a record starting at {@link #pos}, following the rules of
+     * {@link CSVParser#parseLineMulti(String)}.
+     *
+     * @return The record, <code>null</code> if there are no more records, or
+     *         {@link #INCOMPLETE} if the record isn't complete in the buffer.
+     */
+    private final String[] parseRecord() {
+        List<String> tokens = null;
+        boolean inQuotes = false;
+        int lineFrom = pos;
+        int limit = buffer.limit();
+
+        resetToken();
+
+        for (;;) {
+            if (lineFrom >= limit)
+                if (!eof)
+                    return INCOMPLETE;
+
+                // An unterminated quoted token at the end of the input is lost
+                else if (tokens == null)
+                    return null;
+                else {
+                    pos = lineFrom;
+                    return tokens.isEmpty() ? null : tokens.toArray(new String[0]);
+                }
+
+            if (tokens == null)
+                tokens = new ArrayList<>();
+
+            int lineTo = lineFrom;
+            while (lineTo < limit && buffer.get(lineTo) != '\n' && buffer.get(lineTo) != '\r')
+                lineTo++;
+
+            int nextLine = skipLine(lineTo == limit ? lineFrom : lineTo);
+            if (nextLine == -1)
+                return INCOMPLETE;
+
+            for (int i = lineFrom; i < lineTo; i++) {
+                byte c = buffer.get(i);
+
+                if (c == escape) {
+                    if (isNextByte(lineTo, i, inQuotes || inField, true)) {
+                        append(i + 1);
+                        i++;
+                    }
+                }
+                else if (c == quotechar) {
+                    if (isNextByte(lineTo, i, inQuotes || inField, false)) {
+                        append(i + 1);
+                        i++;
+                    }
+                    else {
+
+                        // the tricky case of an embedded quote in the middle:
+                        // a,bc"d"ef,g
+                        if (!strictQuotes) {
+                            if (charIndex(lineFrom, i) > 2
+                                && buffer.get(i - 1) != separator
+                                && lineTo > i + 1 && buffer.get(i + 1) != separator
+                            ) {
+
+                                // discard white space leading up to quote
+                                if (ignoreLeadingWhiteSpace && tokenLength() > 0 && isAllWhiteSpace())
+                                    resetToken();
+                                else
+                                    append(i);
+                            }
+                        }
+
+                        inQuotes = !inQuotes;
+                    }
+
+                    inField = !inField;
+                }
+                else if (c == separator && !inQuotes) {
+                    tokens.add(token(tokens.size()));
+                    resetToken();
+                    inField = false;
+                }
+                else if (!strictQuotes || inQuotes) {
+                    append(i);
+                    inField = true;
+                }
+            }
+
+            lineFrom = nextLine;
+
+            // Continue a quoted token on the next line
+            if (inQuotes) {
+                appendNewLine();
+            }
+            else {
+                tokens.add(token(tokens.size()));
+                pos = lineFrom;
+                return tokens.toArray(new String[0]);
+            }
+        }
+    }
+
+    /**
+     * Whether the byte following position <code>i</code> is a quote, or if
+     * <code>escapable</code>, an escape, in a quoted context.
+     */
+    private final boolean isNextByte(int lineTo, int i, boolean inQuotes, boolean escapable) {
+        if (!inQuotes || lineTo <= i + 1)
+            return false;
+
+        byte b = buffer.get(i + 1);
+        return b == quotechar || escapable && b == escape;
+    }
+
+    /**
+     * The index of the character encoded at a byte position of a line.
+     */
+    private final int charIndex(int lineFrom, int i) {
+        if (!utf8)
+            return i - lineFrom;
+
+        int result = 0;
+        for (int j = lineFrom; j < i; j++)
+            if ((buffer.get(j) & 0xC0) != 0x80)
+                result++;
+
+        return result;
+    }
+
+    private final boolean isAllWhiteSpace() {
+        for (int i = 0; i < tokenLength(); i++) {
+            byte b = copied ? copy[i] : buffer.get(tokenFrom + i);
+
+            if (b < 0 || !Character.isWhitespace(b))
+                return false;
+        }
+
+        return true;
+    }
+
+    // -------------------------------------------------------------------------
+    // The current token
+    // -------------------------------------------------------------------------
+
+    private final void resetToken() {
+        tokenFrom = tokenTo = 0;
+        copyLength = 0;
+        copied = false;
+    }
+
+    private final int tokenLength() {
+        return copied ? copyLength : tokenTo - tokenFrom;
+    }
+
+    private final void append(int i) {
+        if (copied)
+            append(buffer.get(i));
+        else if (tokenFrom == tokenTo)
+            tokenTo = (tokenFrom = i) + 1;
+        else if (tokenTo == i)
+            tokenTo++;
+        else {
+            copy();
+            append(buffer.get(i));
+        }
+    }
+
+    private final void appendNewLine() {
+        if (!copied)
+            copy();
+
+        append((byte) '\n');
+    }
+
+    private final void append(byte b) {
+        if (copyLength == copy.length)
+            copy = Arrays.copyOf(copy, copy.length * 2);
+
+        copy[copyLength++] = b;
+    }
+
+    /**
+     * Copy the token's buffer range, before appending non-contiguous content.
+     */
+    private final void copy() {
+        int length = tokenTo - tokenFrom;
+
+        if (copy.length < length)
+            copy = new byte[Math.max(length, copy.length * 2)];
+
+        buffer.get(tokenFrom, copy, 0, length);
+        copyLength = length;
+        copied = true;
+    }
+
+    private final String token(int index) {
+        if (columns != null && !columns.get(index))
+            return null;
+        else if (copied)
+            return new String(copy, 0, copyLength, charset);
+        else if (buffer.hasArray())
+            return new String(buffer.array(), buffer.arrayOffset() + tokenFrom, tokenTo - tokenFrom, charset);
+
+        copy();
+        return new String(copy, 0, copyLength, charset);
+    }
+
+    // -------------------------------------------------------------------------
+    // Buffer management
+    // -------------------------------------------------------------------------
+
+    /**
+     * Make more content available, retaining the content from {@link #pos}.
+     */
+    private final void fill() throws IOException {
+        int retained = buffer.limit() - pos;
+
+        if (channel instanceof FileChannel fc) {
+
+            // A record doesn't fit in the mapped window
+            if (pos == 0 && retained > 0)
+                window = grow(retained);
+
+            base += pos;
+            long size = fc.size();
+            buffer = fc.map(MapMode.READ_ONLY, base, Math.min(window, size - base));
+            eof = base + buffer.limit() >= size;
+        }
+        else {
+
+            // A record doesn't fit in the buffer
+            if (retained > 0 && retained == buffer.capacity())
+                window = grow(retained);
+
+            ByteBuffer b = buffer.capacity() >= window ? buffer : ByteBuffer.allocate(window);
+            b.put(0, buffer, pos, retained);
+            b.clear().position(retained);
+
+            int read = 0;
+            while (b.hasRemaining() && (read = channel.read(b)) >= 0);
+
+            eof = read == -1;
+            buffer = b.flip();
+        }
+
+        pos = 0;
+    }
+
+    private final int grow(int retained) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, 2L * Math.max(window, retained));
+    }
+
+    @Override
+    public final void close() throws IOException {
+        if (channel != null)
+            channel.close();
+    }
+
+    // -------------------------------------------------------------------------
+    // The Iterator API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readNext();
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public final String[] next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+
+        String[] result = next;
+        next = null;
+        return result;
+    }
+}
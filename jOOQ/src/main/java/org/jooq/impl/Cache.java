@@ -37,14 +37,12 @@
  */
 package org.jooq.impl;
 
-import static org.jooq.tools.StringUtils.defaultIfNull;
-
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
-import org.jooq.impl.CacheType;
+import org.jooq.CacheStatistics;
 import org.jooq.Configuration;
 
 /**
@@ -73,40 +71,74 @@ final class Cache {
         if (!type.category.predicate.test(configuration.settings()))
             return operation.get();
 
-        Object cacheOrNull = configuration.data(type);
-        if (cacheOrNull == null) {
-            synchronized (type) {
-                cacheOrNull = configuration.data(type);
-
-                if (cacheOrNull == null)
-                    configuration.data(type, cacheOrNull = defaultIfNull(
-                        configuration.cacheProvider().provide(new DefaultCacheContext(configuration, type)),
-                        NULL
-                    ));
-            }
-        }
+        DefaultCacheStatistics statistics = statistics0(configuration, type);
+        Map<Object, Object> cache = statistics.cache;
 
-        if (cacheOrNull == NULL)
+        if (cache == null)
             return operation.get();
 
         // The cache is guaranteed to be thread safe by the CacheProvider
-        // contract. However since we cannot use ConcurrentHashMap.computeIfAbsent()
-        // recursively, we have to revert to double checked locking nonetheless.
-        Map<Object, Object> cache = (Map<Object, Object>) cacheOrNull;
+        // contract. Since we cannot use ConcurrentHashMap.computeIfAbsent()
+        // recursively, the operation is run outside of any lock, and only its
+        // first outcome is published. Concurrent misses on the same key may
+        // run the operation more than once, which is acceptable as all cached
+        // operations are idempotent.
         Object k = key.get();
         Object v = cache.get(k);
         if (v == null) {
-            synchronized (cache) {
-                v = cache.get(k);
+            statistics.misses.increment();
 
-                if (v == null)
-                    cache.put(k, (v = operation.get()) == null ? NULL : v);
-            }
+            long start = System.nanoTime();
+            v = operation.get();
+            statistics.loadTime.add(System.nanoTime() - start);
+
+            if (v == null)
+                v = NULL;
+
+            Object previous = cache.putIfAbsent(k, v);
+            if (previous != null)
+                v = previous;
         }
+        else
+            statistics.hits.increment();
 
         return (V) (v == NULL ? null : v);
     }
 
+    /**
+     * Get the {@link CacheStatistics} of a cache in the context of a
+     * {@link Configuration}, without initialising the cache.
+     */
+    static final CacheStatistics statistics(Configuration configuration, CacheType type) {
+        Object statistics = configuration.data(type);
+
+        return statistics instanceof DefaultCacheStatistics s
+             ? s
+             : new DefaultCacheStatistics(type);
+    }
+
+    /**
+     * Get the {@link DefaultCacheStatistics} holding the cache in the context
+     * of a {@link Configuration}, initialising the cache if needed.
+     */
+    private static final DefaultCacheStatistics statistics0(Configuration configuration, CacheType type) {
+        Object statistics = configuration.data(type);
+
+        if (statistics == null) {
+            synchronized (type) {
+                statistics = configuration.data(type);
+
+                if (statistics == null) {
+                    DefaultCacheStatistics s = new DefaultCacheStatistics(type);
+                    s.cache = configuration.cacheProvider().provide(new DefaultCacheContext(configuration, s));
+                    configuration.data(type, statistics = s);
+                }
+            }
+        }
+
+        return (DefaultCacheStatistics) statistics;
+    }
+
     /**
      * A <code>null</code> placeholder to be put in {@link ConcurrentHashMap}.
      */
@@ -40,15 +40,19 @@ package org.jooq.impl;
 
 import static org.jooq.impl.CacheType.CacheCategory.PARSING_CONNECTION;
 import static org.jooq.impl.CacheType.CacheCategory.RECORD_MAPPER;
+import static org.jooq.impl.CacheType.CacheCategory.RENDERED_SQL;
 import static org.jooq.impl.CacheType.CacheCategory.REFLECTION;
 
 import java.util.function.Predicate;
 
 import org.jooq.CacheProvider;
 import org.jooq.Configuration;
+import org.jooq.Converter;
 import org.jooq.DSLContext;
+import org.jooq.Query;
 import org.jooq.RecordMapper;
 import org.jooq.RecordType;
+import org.jooq.RecordUnmapper;
 import org.jooq.conf.Settings;
 import org.jooq.conf.SettingsTools;
 
@@ -110,6 +114,12 @@ public enum CacheType {
      */
     REFLECTION_CACHE_HAS_COLUMN_ANNOTATIONS(REFLECTION, "org.jooq.configuration.reflection-cache.has-column-annotations"),
 
+    /**
+     * A reflection cache for {@link Converter} instances provided by the
+     * {@link DefaultConverterProvider} per {@link Class} pair.
+     */
+    REFLECTION_CACHE_CONVERTERS(REFLECTION, "org.jooq.configuration.reflection-cache.converters"),
+
     /**
      * A cache used by the {@link DefaultRecordMapperProvider} to cache all
      * {@link RecordMapper} instances and their possibly expensive
@@ -117,11 +127,24 @@ public enum CacheType {
      */
     CACHE_RECORD_MAPPERS(RECORD_MAPPER, "org.jooq.configuration.cache.record-mappers"),
 
+    /**
+     * A cache used by the {@link DefaultRecordUnmapperProvider} to cache all
+     * {@link RecordUnmapper} instances and their possibly expensive
+     * initialisations per {@link Class} and {@link RecordType} pairs.
+     */
+    CACHE_RECORD_UNMAPPERS(RECORD_MAPPER, "org.jooq.configuration.cache.record-unmappers"),
+
     /**
      * [#8334] A cache for SQL to SQL translations in the
      * {@link DSLContext#parsingConnection()}, to speed up its usage.
      */
-    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection");
+    CACHE_PARSING_CONNECTION(PARSING_CONNECTION, "org.jooq.configuration.cache.parsing-connection"),
+
+    /**
+     * A cache for rendered SQL strings of executed {@link Query} instances,
+     * keyed by the shape of their expression tree, ignoring bind values.
+     */
+    CACHE_RENDERED_SQL(RENDERED_SQL, "org.jooq.configuration.cache.rendered-sql");
 
     final CacheCategory category;
     final String        key;
@@ -134,7 +157,8 @@ public enum CacheType {
     enum CacheCategory {
         REFLECTION(SettingsTools::reflectionCaching),
         RECORD_MAPPER(SettingsTools::recordMapperCaching),
-        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching);
+        PARSING_CONNECTION(SettingsTools::parsingConnectionCaching),
+        RENDERED_SQL(SettingsTools::renderedSQLCaching);
 
         final Predicate<? super Settings> predicate;
 
@@ -0,0 +1,351 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * A thread safe, bounded cache with CLOCK (second chance) eviction.
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}, whose internal lock
+ * striping makes reads lock free and keeps writes to different keys mostly
+ * uncontended. Rather than reordering a linked list on each read, like an LRU
+ * cache would, a read only sets a reference bit on the entry. When the cache
+ * exceeds its capacity, the writing thread advances a clock hand over the
+ * insertion order queue, giving referenced entries a second chance and
+ * evicting the first unreferenced entry. Only one thread evicts at a time,
+ * other writers don't wait for it.
+ * <p>
+ * Removed and replaced entries are only marked as such, and dropped from the
+ * queue lazily. As the clock hand doesn't advance while the cache is within
+ * its capacity, the queue is swept once the number of such stale entries
+ * exceeds the capacity.
+ *
+ * @author Lukas Eder
+ */
+final class ClockCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private final int                              capacity;
+    private final ConcurrentHashMap<K, Node<K, V>> map;
+    private final Queue<Node<K, V>>                clock;
+    private final AtomicInteger                    size;
+    private final AtomicInteger                    stale;
+    private final ReentrantLock                    evictionLock;
+    private final LongConsumer                     evictionListener;
+
+    ClockCache(int capacity) {
+        this(capacity, null);
+    }
+
+    ClockCache(int capacity, LongConsumer evictionListener) {
+        this.capacity = Math.max(1, capacity);
+        this.map = new ConcurrentHashMap<>();
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.size = new AtomicInteger();
+        this.stale = new AtomicInteger();
+        this.evictionLock = new ReentrantLock();
+        this.evictionListener = evictionListener;
+    }
+
+    // -------------------------------------------------------------------------
+    // The Map API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final V get(Object key) {
+        Node<K, V> node = map.get(key);
+
+        if (node == null)
+            return null;
+
+        // Avoid the volatile write if the bit is already set
+        if (!node.referenced)
+            node.referenced = true;
+
+        return node.value;
+    }
+
+    @Override
+    public final boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public final V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> previous = map.put(key, node);
+
+        if (previous == null)
+            added(node);
+        else
+            replaced(previous, node);
+
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public final V putIfAbsent(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> previous = map.putIfAbsent(key, node);
+
+        if (previous == null) {
+            added(node);
+            return null;
+        }
+        else {
+            previous.referenced = true;
+            return previous.value;
+        }
+    }
+
+    @Override
+    public final V remove(Object key) {
+        Node<K, V> previous = map.remove(key);
+
+        if (previous == null)
+            return null;
+
+        removed(previous);
+        return previous.value;
+    }
+
+    @Override
+    public final boolean remove(Object key, Object value) {
+        Node<K, V> node = map.get(key);
+
+        if (node != null && Objects.equals(node.value, value) && map.remove(key, node)) {
+            removed(node);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public final boolean replace(K key, V oldValue, V newValue) {
+        Node<K, V> node = map.get(key);
+
+        if (node != null && Objects.equals(node.value, oldValue)) {
+            Node<K, V> replacement = new Node<>(key, newValue);
+
+            if (map.replace(key, node, replacement)) {
+                replaced(node, replacement);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public final V replace(K key, V value) {
+        Node<K, V> replacement = new Node<>(key, value);
+        Node<K, V> previous = map.replace(key, replacement);
+
+        if (previous == null)
+            return null;
+
+        replaced(previous, replacement);
+        return previous.value;
+    }
+
+    @Override
+    public final int size() {
+        return map.size();
+    }
+
+    @Override
+    public final void clear() {
+        for (K key : map.keySet())
+            remove(key);
+    }
+
+    @Override
+    public final Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Node<K, V>> it = map.values().iterator();
+
+                return new Iterator<Entry<K, V>>() {
+                    Node<K, V> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        current = it.next();
+                        return new SimpleImmutableEntry<>(current.key, current.value);
+                    }
+
+                    @Override
+                    public void remove() {
+                        ClockCache.this.remove(current.key, current.value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    // -------------------------------------------------------------------------
+    // The eviction logic
+    // -------------------------------------------------------------------------
+
+    private final void added(Node<K, V> node) {
+        clock.offer(node);
+
+        if (size.incrementAndGet() > capacity)
+            evict();
+    }
+
+    private final void replaced(Node<K, V> previous, Node<K, V> replacement) {
+        previous.removed = true;
+        replacement.referenced = true;
+        clock.offer(replacement);
+        stale();
+    }
+
+    private final void removed(Node<K, V> node) {
+        node.removed = true;
+        size.decrementAndGet();
+        stale();
+    }
+
+    private final void stale() {
+        if (stale.incrementAndGet() > capacity)
+            sweep();
+    }
+
+    private final void sweep() {
+        if (!evictionLock.tryLock())
+            return;
+
+        try {
+            int swept = 0;
+
+            for (Iterator<Node<K, V>> it = clock.iterator(); it.hasNext();) {
+                if (it.next().removed) {
+                    it.remove();
+                    swept++;
+                }
+            }
+
+            stale.addAndGet(-swept);
+        }
+        finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private final void evict() {
+        if (!evictionLock.tryLock())
+            return;
+
+        long evicted = 0;
+
+        try {
+            while (size.get() > capacity) {
+                Node<K, V> node = clock.poll();
+
+                if (node == null)
+                    break;
+
+                // Nodes that were removed or replaced are simply dropped from
+                // the clock
+                else if (node.removed)
+                    stale.decrementAndGet();
+
+                // Referenced nodes get a second chance
+                else if (node.referenced) {
+                    node.referenced = false;
+                    clock.offer(node);
+                }
+
+                // The polled node is no longer in the clock, so it doesn't
+                // count as stale
+                else if (map.remove(node.key, node)) {
+                    node.removed = true;
+                    size.decrementAndGet();
+                    evicted++;
+                }
+
+                // The node was removed or replaced concurrently, and counted
+                // as stale, after it was polled
+                else
+                    stale.decrementAndGet();
+            }
+        }
+        finally {
+            evictionLock.unlock();
+
+            if (evicted > 0 && evictionListener != null)
+                evictionListener.accept(evicted);
+        }
+    }
+
+    private static final class Node<K, V> {
+        final K          key;
+        final V          value;
+        volatile boolean referenced;
+        volatile boolean removed;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
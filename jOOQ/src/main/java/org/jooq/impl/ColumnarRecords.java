@@ -0,0 +1,453 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static org.jooq.impl.AbstractRecord.PRIMITIVE;
+import static org.jooq.impl.Tools.attachRecords;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+
+import org.jooq.Attachable;
+import org.jooq.Configuration;
+import org.jooq.Record;
+
+/**
+ * A column oriented store for the records of a {@link ResultImpl}.
+ * <p>
+ * Values are stored in one array per column, rather than in one
+ * {@link AbstractRecord} per row. Columns of fixed width numeric types are
+ * stored unboxed in a <code>long[]</code>, all other columns in an
+ * <code>Object[]</code>.
+ * <p>
+ * Records obtained through {@link #get(int)} are materialised on first access
+ * and then retained, such that {@link #get(int)} keeps returning the same
+ * instance, and modifications to that instance are reflected by all other
+ * accessors, as with a list of records. Column values of rows that have been
+ * materialised are read from the materialised record.
+ * <p>
+ * {@link #iterator()} and {@link #spliterator()} (and thus streams) produce a
+ * new, transient record for each row that has not been materialised, which
+ * isn't retained. Modifications to such records are not reflected by this
+ * list. {@link #flyweight()} iterates over the rows that have not been
+ * materialised using a single record instance, for internal operations that do
+ * not retain any records.
+ *
+ * @author Lukas Eder
+ */
+final class ColumnarRecords<R extends Record> extends AbstractList<R> implements RandomAccess, Attachable {
+
+    private final AbstractRow<R>        fields;
+    private final Supplier<? extends R> factory;
+    private final Class<?>[]            types;
+    private final Object[][]            objects;
+    private final long[][]              primitives;
+    private final BitSet[]              nulls;
+    private Object[]                    records;
+    private Configuration               configuration;
+    private int                         size;
+
+    ColumnarRecords(Configuration configuration, AbstractRow<R> fields, Supplier<? extends R> factory) {
+        int columns = fields.size();
+
+        this.configuration = configuration;
+        this.fields = fields;
+        this.factory = factory;
+        this.types = new Class[columns];
+        this.objects = new Object[columns][];
+        this.primitives = new long[columns][];
+        this.nulls = new BitSet[columns];
+        this.records = new Object[8];
+
+        for (int j = 0; j < columns; j++) {
+            Class<?> type = fields.field(j).getType();
+
+            if (AbstractRecord.primitive(type)) {
+                types[j] = type;
+                primitives[j] = new long[8];
+                nulls[j] = new BitSet();
+            }
+            else
+                objects[j] = new Object[8];
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // Column access
+    // -------------------------------------------------------------------------
+
+    /**
+     * The value at a given row and column, without materialising the record.
+     */
+    final Object value(int row, int column) {
+        Objects.checkIndex(row, size);
+
+        if (records[row] != null)
+            return ((Record) records[row]).get(column);
+        else if (types[column] == null)
+            return objects[column][row];
+        else if (nulls[column].get(row))
+            return null;
+        else
+            return AbstractRecord.box(types[column], primitives[column][row]);
+    }
+
+    /**
+     * All values of a column, without materialising any records.
+     */
+    final List<Object> values(int column) {
+        List<Object> result = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++)
+            if (records[i] != null)
+                result.add(((Record) records[i]).get(column));
+            else if (types[column] == null)
+                result.add(objects[column][i]);
+            else
+                result.add(nulls[column].get(i) ? null : AbstractRecord.box(types[column], primitives[column][i]));
+
+        return result;
+    }
+
+    /**
+     * Iterate over all rows using a single record instance, which is
+     * overwritten with the next row's values in each iteration step, unless
+     * the row has already been materialised.
+     */
+    final Iterable<R> flyweight() {
+        return () -> new Iterator<R>() {
+            final R record = newRecord();
+            int     row;
+
+            @Override
+            public boolean hasNext() {
+                return row < size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                if (records[row] != null)
+                    return (R) records[row++];
+
+                load((AbstractRecord) record, row++);
+                return record;
+            }
+        };
+    }
+
+    /**
+     * Intern all <code>String</code> values of a column.
+     */
+    final void intern(int column) {
+        for (int i = 0; i < size; i++)
+            if (records[i] != null)
+                ((AbstractRecord) records[i]).intern0(column);
+            else if (objects[column][i] instanceof String s)
+                objects[column][i] = s.intern();
+    }
+
+    @SuppressWarnings("unchecked")
+    private final R transientRecord(int row) {
+        if (records[row] != null)
+            return (R) records[row];
+
+        R record = newRecord();
+        load((AbstractRecord) record, row);
+        return record;
+    }
+
+    private final R newRecord() {
+        R record = factory.get();
+        ((AbstractRecord) record).fetched = true;
+
+        if (attachRecords(configuration))
+            record.attach(configuration);
+
+        return record;
+    }
+
+    private final void load(AbstractRecord record, int row) {
+        record.originals = null;
+        record.changed.clear();
+
+        for (int j = 0; j < types.length; j++) {
+            if (types[j] == null)
+                record.value(j, objects[j][row]);
+            else if (nulls[j].get(row))
+                record.value(j, null);
+            else
+                record.primitive(j, primitives[j][row]);
+        }
+    }
+
+    private final void store(int row, Record record, boolean retain) {
+        records[row] = retain ? record : null;
+        AbstractRecord r = record instanceof AbstractRecord a && a.fields == fields ? a : null;
+
+        for (int j = 0; j < types.length; j++) {
+            if (types[j] == null)
+                objects[j][row] = record.get(j);
+            else if (r != null && r.values[j] == PRIMITIVE) {
+                nulls[j].clear(row);
+                primitives[j][row] = r.primitives[j];
+            }
+            else {
+                Object value = record.get(j);
+
+                if (value == null)
+                    nulls[j].set(row);
+                else {
+                    nulls[j].clear(row);
+                    primitives[j][row] = AbstractRecord.unbox(types[j], value);
+                }
+            }
+        }
+    }
+
+    private final void ensureCapacity(int capacity) {
+        if (records.length < capacity)
+            records = Arrays.copyOf(records, Math.max(capacity, records.length * 2));
+
+        for (int j = 0; j < types.length; j++) {
+            if (types[j] == null) {
+                if (objects[j].length < capacity)
+                    objects[j] = Arrays.copyOf(objects[j], Math.max(capacity, objects[j].length * 2));
+            }
+            else if (primitives[j].length < capacity)
+                primitives[j] = Arrays.copyOf(primitives[j], Math.max(capacity, primitives[j].length * 2));
+        }
+    }
+
+    private final void shift(int from, int to, int length) {
+        System.arraycopy(records, from, records, to, length);
+
+        for (int j = 0; j < types.length; j++) {
+            if (types[j] == null)
+                System.arraycopy(objects[j], from, objects[j], to, length);
+            else {
+                System.arraycopy(primitives[j], from, primitives[j], to, length);
+
+                BitSet n = nulls[j].get(from, from + length);
+                nulls[j].clear(Math.min(from, to), Math.max(from, to) + length);
+
+                for (int i = n.nextSetBit(0); i >= 0; i = n.nextSetBit(i + 1))
+                    nulls[j].set(to + i);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // List API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final R get(int index) {
+        Objects.checkIndex(index, size);
+
+        if (records[index] == null) {
+            R record = newRecord();
+            load((AbstractRecord) record, index);
+            records[index] = record;
+        }
+
+        return (R) records[index];
+    }
+
+    @Override
+    public final Iterator<R> iterator() {
+        return new Iterator<R>() {
+            int row;
+            int last = -1;
+            int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return row < size;
+            }
+
+            @Override
+            public R next() {
+                checkForComodification();
+
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                return transientRecord(last = row++);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0)
+                    throw new IllegalStateException();
+
+                checkForComodification();
+                ColumnarRecords.this.remove(last);
+                row = last;
+                last = -1;
+                expectedModCount = modCount;
+            }
+
+            private final void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
+        };
+    }
+
+    @Override
+    public final Spliterator<R> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public final R set(int index, R element) {
+        R previous = get(index);
+        store(index, Objects.requireNonNull(element), true);
+        return previous;
+    }
+
+    @Override
+    public final void add(int index, R element) {
+        Objects.checkIndex(index, size + 1);
+        Objects.requireNonNull(element);
+
+        ensureCapacity(size + 1);
+        if (index < size)
+            shift(index, index + 1, size - index);
+
+        store(index, element, true);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Append a copy of a record's values, without retaining the record, which
+     * may be reused by the caller.
+     */
+    final void addValues(R record) {
+        ensureCapacity(size + 1);
+        store(size++, record, false);
+        modCount++;
+    }
+
+    @Override
+    public final R remove(int index) {
+        R previous = get(index);
+
+        if (index < size - 1)
+            shift(index + 1, index, size - index - 1);
+
+        size--;
+        records[size] = null;
+        for (int j = 0; j < types.length; j++)
+            if (types[j] == null)
+                objects[j][size] = null;
+            else
+                nulls[j].clear(size);
+
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public final void clear() {
+        records = new Object[8];
+        for (int j = 0; j < types.length; j++)
+            if (types[j] == null)
+                objects[j] = new Object[8];
+            else {
+                primitives[j] = new long[8];
+                nulls[j].clear();
+            }
+
+        size = 0;
+        modCount++;
+    }
+
+    // -------------------------------------------------------------------------
+    // Attachable API
+    // -------------------------------------------------------------------------
+
+    @Override
+    public final void attach(Configuration c) {
+        this.configuration = c;
+
+        for (int i = 0; i < size; i++)
+            if (records[i] != null)
+                ((Record) records[i]).attach(c);
+    }
+
+    @Override
+    public final void detach() {
+        attach(null);
+    }
+
+    @Override
+    public final Configuration configuration() {
+        return configuration;
+    }
+
+    /**
+     * Serialise the materialised records, as the record factory may not be
+     * serialisable.
+     */
+    private final Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+}
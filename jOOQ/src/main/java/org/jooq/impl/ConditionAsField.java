@@ -194,4 +194,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.ConditionAsField.class, $condition());
+    }
 }
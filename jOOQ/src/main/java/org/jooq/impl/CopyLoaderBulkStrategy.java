@@ -0,0 +1,145 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package org.jooq.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.tools.reflect.Reflect;
+import org.jooq.tools.reflect.ReflectException;
+
+/**
+ * A {@link org.jooq.LoaderBulkStrategy} using PostgreSQL's
+ * <code>COPY .. FROM STDIN</code> statement.
+ * <p>
+ * Rows are streamed in CSV format to the PostgreSQL JDBC driver's
+ * <code>CopyManager.copyIn(String, Reader)</code> method, which is accessed
+ * reflectively to avoid a dependency on the driver.
+ *
+ * @author Lukas Eder
+ */
+final class CopyLoaderBulkStrategy extends AbstractLoaderBulkStrategy {
+
+    static final CopyLoaderBulkStrategy INSTANCE = new CopyLoaderBulkStrategy();
+
+    @Override
+    public final boolean supports(LoaderBulkContext ctx) throws SQLException {
+        return supportedTypes(ctx.fields()) && copyAPI(ctx.connection()) != null;
+    }
+
+    @Override
+    public final long load(LoaderBulkContext ctx) throws SQLException {
+        DSLContext dsl = ctx.dsl();
+        StringBuilder sql = new StringBuilder("copy ").append(dsl.render(ctx.table())).append(" (");
+
+        String separator = "";
+        for (Field<?> field : ctx.fields()) {
+            sql.append(separator).append(dsl.render(field.getUnqualifiedName()));
+            separator = ", ";
+        }
+
+        sql.append(") from stdin (format csv)");
+
+        try {
+            return Reflect.on(copyAPI(ctx.connection())).call("copyIn", sql.toString(), reader(ctx)).<Number> get().longValue();
+        }
+        catch (ReflectException e) {
+            throw sqlException(e);
+        }
+    }
+
+    @Override
+    final void append(StringBuilder sb, List<Field<?>> fields, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0)
+                sb.append(',');
+
+            // NULL is represented by an unquoted empty string in CSV format
+            if (row[i] != null) {
+                String value = row[i] instanceof byte[] b
+                    ? "\\x" + HexFormat.of().formatHex(b)
+                    : row[i].toString();
+
+                sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+            }
+        }
+
+        sb.append('\n');
+    }
+
+    /**
+     * The driver's <code>CopyManager</code>, or <code>null</code> if the
+     * connection doesn't provide one.
+     */
+    private static final Object copyAPI(Connection connection) throws SQLException {
+        Object copyAPI = copyAPI0(connection);
+
+        // Connection pools may wrap the driver's connection
+        return copyAPI != null ? copyAPI : copyAPI0(connection.unwrap(Connection.class));
+    }
+
+    private static final Object copyAPI0(Connection connection) throws SQLException {
+        try {
+            return Reflect.on(connection).call("getCopyAPI").get();
+        }
+        catch (ReflectException e) {
+            if (e.getCause() instanceof NoSuchMethodException)
+                return null;
+            else
+                throw sqlException(e);
+        }
+    }
+
+    /**
+     * Unwrap the {@link SQLException} thrown by a reflective driver call.
+     */
+    static final SQLException sqlException(ReflectException e) {
+        for (Throwable t = e; t != null; t = t.getCause())
+            if (t instanceof SQLException s)
+                return s;
+            else if (t instanceof RuntimeException r && !(t instanceof ReflectException))
+                throw r;
+
+        return new SQLException("Error while loading rows", e);
+    }
+}
@@ -196,4 +196,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Cot.class, $value());
+    }
 }
@@ -247,4 +247,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Coth.class, $value());
+    }
 }
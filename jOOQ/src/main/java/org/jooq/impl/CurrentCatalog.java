@@ -137,4 +137,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.CurrentCatalog.class);
+    }
 }
@@ -166,4 +166,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.CurrentSchema.class);
+    }
 }
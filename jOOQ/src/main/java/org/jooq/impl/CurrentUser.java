@@ -155,4 +155,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.CurrentUser.class);
+    }
 }
@@ -77,6 +77,7 @@ import java.util.function.Supplier;
 
 import org.jooq.Attachable;
 import org.jooq.BindingGetResultSetContext;
+import org.jooq.Configuration;
 import org.jooq.Converter;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
@@ -85,7 +86,15 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.ContextConverter;
+import org.jooq.Cursor;
 import org.jooq.exception.ControlFlowSignal;
+import org.jooq.impl.DefaultBinding.DefaultByteBinding;
+import org.jooq.impl.DefaultBinding.DefaultDoubleBinding;
+import org.jooq.impl.DefaultBinding.DefaultFloatBinding;
+import org.jooq.impl.DefaultBinding.DefaultIntegerBinding;
+import org.jooq.impl.DefaultBinding.DefaultLongBinding;
+import org.jooq.impl.DefaultBinding.DefaultShortBinding;
+import org.jooq.impl.DefaultBinding.InternalBinding;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
@@ -100,12 +109,14 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
     final ExecuteContext                                   ctx;
     final ExecuteListener                                  listener;
     private final boolean[]                                intern;
+    private final Class<?>[]                               primitives;
     private final boolean                                  keepResultSet;
     private final boolean                                  keepStatement;
     private final boolean                                  autoclosing;
     private final int                                      maxRows;
     private final Supplier<? extends R>                    factory;
     private boolean                                        isClosed;
+    private boolean                                        reuseRecords;
 
     private transient CursorResultSet                      rs;
     private transient DefaultBindingGetResultSetContext<?> rsContext;
@@ -115,7 +126,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
 
 
-    private transient Iterator<R>                          iterator;
+    private transient CursorIterator                       iterator;
     private transient int                                  rows;
 
     @SuppressWarnings("unchecked")
@@ -148,6 +159,41 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         }
         else
             this.intern = null;
+
+        this.primitives = TRUE.equals(ctx.settings().isFetchPrimitiveRecordValues())
+            ? primitives(fields)
+            : null;
+    }
+
+    /**
+     * The fixed width numeric types of fields that can be fetched into
+     * {@link AbstractRecord#primitives} without boxing, or <code>null</code>
+     * if no such fields exist.
+     */
+    private static final Class<?>[] primitives(Field<?>[] fields) {
+        Class<?>[] result = null;
+
+        for (int i = 0; i < fields.length; i++) {
+            if (uncoerce(fields[i]) instanceof AbstractRowAsField)
+                continue;
+
+            if (fields[i].getBinding() instanceof InternalBinding<?, ?> b && b.converter() instanceof IdentityConverter) {
+                if (b instanceof DefaultIntegerBinding
+                    || b instanceof DefaultLongBinding
+                    || b instanceof DefaultDoubleBinding
+                    || b instanceof DefaultShortBinding
+                    || b instanceof DefaultByteBinding
+                    || b instanceof DefaultFloatBinding) {
+
+                    if (result == null)
+                        result = new Class[fields.length];
+
+                    result[i] = fields[i].getType();
+                }
+            }
+        }
+
+        return result;
     }
 
     // -------------------------------------------------------------------------
@@ -226,18 +272,69 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         return iterator;
     }
 
+    /**
+     * Formatting reads each record before fetching the next one, and doesn't
+     * retain records, so they can be reused.
+     */
+    @Override
+    final Iterable<R> flyweight() {
+        return () -> new Iterator<R>() {
+            @Override
+            public final boolean hasNext() {
+                boolean previous = reuseRecords;
+                reuseRecords = true;
+
+                try {
+                    return iterator().hasNext();
+                }
+                finally {
+                    reuseRecords = previous;
+                }
+            }
+
+            @Override
+            public final R next() {
+                if (!hasNext())
+                    throw new NoSuchElementException("There are no more records to fetch from this Cursor");
+
+                return iterator().next();
+            }
+        };
+    }
+
+    @Override
+    public final Cursor<R> reuseRecords(boolean r) {
+        this.reuseRecords = r;
+        return this;
+    }
+
     @Override
     public final Result<R> fetchNext(int number) {
         // [#1157] This invokes listener.fetchStart(ctx), which has to be called
         // Before listener.resultStart(ctx)
         iterator();
-        ResultImpl<R> result = new ResultImpl<>(((DefaultExecuteContext) ctx).originalConfiguration(), fields);
+        Configuration c = ((DefaultExecuteContext) ctx).originalConfiguration();
+        boolean columnar = TRUE.equals(ctx.settings().isFetchColumnarResults());
+        ResultImpl<R> result = columnar
+            ? new ResultImpl<>(c, fields, new ColumnarRecords<>(c, fields, factory))
+            : new ResultImpl<>(c, fields);
 
         ctx.result(result);
         listener.resultStart(ctx);
 
-        for (int i = 0; i < number && iterator().hasNext(); i++)
-            result.addRecord(iterator().next());
+        // Columnar results copy the values of records, which can thus be
+        // reused. Other results retain the records, which must not be reused.
+        boolean previous = reuseRecords;
+        reuseRecords = columnar;
+        iterator.reused = null;
+
+        try {
+            for (int i = 0; i < number && iterator().hasNext(); i++)
+                result.addRecord(iterator().next());
+        }
+        finally {
+            reuseRecords = previous;
+        }
 
         ctx.result(result);
         listener.resultEnd(ctx);
@@ -1410,11 +1507,17 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
         /**
          * [#11099] Cache this instance for the entire cursor.
          */
-        private final CursorRecordInitialiser        initialiser    = new CursorRecordInitialiser(fields, 0);
+        private final CursorRecordInitialiser        initialiser    = new CursorRecordInitialiser(fields, 0, primitives);
 
         @SuppressWarnings("unchecked")
         private final RecordDelegate<AbstractRecord> recordDelegate = Tools.newRecord(true, (Supplier<AbstractRecord>) factory, ((DefaultExecuteContext) ctx).originalConfiguration());
 
+        /**
+         * The record that is reused if {@link CursorImpl#reuseRecords} is set.
+         */
+        private AbstractRecord                       reused;
+        private final RecordDelegate<AbstractRecord> reusedDelegate = Tools.newRecord(true, this::reused, ((DefaultExecuteContext) ctx).originalConfiguration());
+
         @Override
         public final boolean hasNext() {
             if (hasNext == null) {
@@ -1447,7 +1550,7 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
             try {
                 if (!isClosed && rs.next()) {
-                    record = recordDelegate.operate(initialiser.reset());
+                    record = (reuseRecords ? reusedDelegate : recordDelegate).operate(initialiser.reset());
                     rows++;
                 }
             }
@@ -1477,6 +1580,18 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             return (R) record;
         }
 
+        private final AbstractRecord reused() {
+            if (reused == null) {
+                reused = (AbstractRecord) factory.get();
+            }
+            else {
+                reused.originals = null;
+                reused.changed.clear();
+            }
+
+            return reused;
+        }
+
         @Override
         public final void remove() {
             throw new UnsupportedOperationException();
@@ -1484,12 +1599,63 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
 
         private class CursorRecordInitialiser implements ThrowingFunction<AbstractRecord, AbstractRecord, SQLException> {
 
-            private final AbstractRow<?> initialiserFields;
-            private int                  offset;
+            private final AbstractRow<?>                    initialiserFields;
+            private final Class<?>[]                        primitives;
+            private int                                     offset;
+
+            /**
+             * The bindings of all fields, resolved only once for the cursor.
+             */
+            private final BindingPlan                       plan;
+
+            /**
+             * Initialisers and record types of nested records, per field.
+             */
+            private final CursorRecordInitialiser[]         nested;
+            private final Class<? extends AbstractRecord>[] nestedTypes;
+            private final boolean[]                         nestedConverted;
 
             CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset) {
+                this(initialiserFields, offset, null);
+            }
+
+            @SuppressWarnings("unchecked")
+            CursorRecordInitialiser(AbstractRow<?> initialiserFields, int offset, Class<?>[] primitives) {
                 this.initialiserFields = initialiserFields;
                 this.offset = offset;
+                this.primitives = primitives;
+
+                Field<?>[] f = initialiserFields.fields();
+                this.plan = new BindingPlan(f);
+                this.nested = new CursorImpl.CursorIterator.CursorRecordInitialiser[f.length];
+                this.nestedTypes = new Class[f.length];
+                this.nestedConverted = new boolean[f.length];
+
+                for (int i = 0; i < f.length; i++) {
+                    AbstractRow<?> row = null;
+
+                    // [#7100] TODO: This should be transparent to the CursorImpl
+                    //         RowField may have a Row[N].mapping(...) applied
+                    Field<?> u = uncoerce(f[i]);
+
+                    // [#13560] Queries may decide themselves to replace the
+                    //          flattening emulation by the MULTISET emulation
+                    if (u instanceof AbstractRowAsField
+                            && NO_NATIVE_SUPPORT.contains(ctx.dialect())
+                            && !TRUE.equals(ctx.data(DATA_MULTISET_CONTENT))) {
+                        row = ((AbstractRowAsField<?>) u).emulatedFields(configuration);
+                        nestedTypes[i] = (Class<? extends AbstractRecord>) ((AbstractRowAsField<?>) u).getRecordType();
+                    }
+                    else if (u.getDataType().isEmbeddable()) {
+                        row = Tools.row0(embeddedFields(u));
+                        nestedTypes[i] = embeddedRecordType(u);
+                    }
+
+                    if (row != null) {
+                        nested[i] = new CursorRecordInitialiser(row, 0);
+                        nestedConverted[i] = u != f[i];
+                    }
+                }
             }
 
             CursorRecordInitialiser reset() {
@@ -1543,47 +1709,32 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
             private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
                 try {
                     T value;
-                    AbstractRow<?> nested = null;
-                    Class<? extends AbstractRecord> recordType = null;
-
-                    // [#7100] TODO: This should be transparent to the CursorImpl
-                    //         RowField may have a Row[N].mapping(...) applied
-                    Field<?> f = uncoerce(field);
-
-                    // [#13560] Queries may decide themselves to replace the
-                    //          flattening emulation by the MULTISET emulation
-                    if (f instanceof AbstractRowAsField
-                            && NO_NATIVE_SUPPORT.contains(ctx.dialect())
-                            && !TRUE.equals(ctx.data(DATA_MULTISET_CONTENT))) {
-                        nested = ((AbstractRowAsField<?>) f).emulatedFields(configuration);
-                        recordType = (Class<? extends AbstractRecord>) ((AbstractRowAsField<?>) f).getRecordType();
-                    }
-                    else if (f.getDataType().isEmbeddable()) {
-                        nested = Tools.row0(embeddedFields(f));
-                        recordType = embeddedRecordType(f);
-                    }
+                    CursorRecordInitialiser operation = nested[index];
 
                     int nestedOffset = offset + index;
-                    if (nested != null) {
-                        CursorRecordInitialiser operation = new CursorRecordInitialiser(nested, nestedOffset);
-                        value = (T) Tools.newRecord(true, (Class<AbstractRecord>) recordType, (AbstractRow<AbstractRecord>) nested, ((DefaultExecuteContext) ctx).originalConfiguration())
+                    if (operation != null) {
+                        AbstractRow<?> row = operation.initialiserFields;
+                        operation.offset = nestedOffset;
+                        value = (T) Tools.newRecord(true, (Class<AbstractRecord>) nestedTypes[index], (AbstractRow<AbstractRecord>) row, ((DefaultExecuteContext) ctx).originalConfiguration())
                                          .operate(operation);
 
                         // [#7100] TODO: Is there a more elegant way to do this?
-                        if (f != field)
+                        if (nestedConverted[index])
                             value = ((ContextConverter<Object, T>) field.getConverter()).from(value, ctx.converterContext());
 
-                        offset += operation.offset - nestedOffset + nested.size() - 1;
+                        offset += operation.offset - nestedOffset + row.size() - 1;
+                    }
+
+                    // Fixed width numeric values are stored without boxing
+                    else if (primitives != null && primitives[index] != null) {
+                        setPrimitive(record, primitives[index], nestedOffset + 1, index);
+                        return;
                     }
                     else {
-                        rsContext.index(nestedOffset + 1);
-                        rsContext.field((Field) field);
-                        field.getBinding().get((BindingGetResultSetContext<T>) rsContext);
-                        value = (T) rsContext.value();
+                        value = (T) plan.get(rsContext, index, nestedOffset + 1);
                     }
 
-                    record.values[index] = value;
-                    record.originals[index] = value;
+                    record.value(index, value);
                 }
 
                 // [#5901] Improved error logging, mostly useful when there are some data type conversion errors
@@ -1591,6 +1742,37 @@ final class CursorImpl<R extends Record> extends AbstractCursor<R> {
                     throw new SQLException("Error while reading field: " + field + ", at JDBC index: " + (offset + index + 1), e);
                 }
             }
+
+            private final void setPrimitive(AbstractRecord record, Class<?> type, int jdbcIndex, int index) throws SQLException {
+                long value;
+
+                // The integer bindings read values with plain JDBC calls, whereas
+                // floating point values may need dialect specific handling, e.g.
+                // of infinity, and are read through their bindings
+                if (type == Integer.class)
+                    value = rs.getInt(jdbcIndex);
+                else if (type == Long.class)
+                    value = rs.getLong(jdbcIndex);
+                else if (type == Short.class)
+                    value = rs.getShort(jdbcIndex);
+                else if (type == Byte.class)
+                    value = rs.getByte(jdbcIndex);
+                else {
+                    Object v = plan.get(rsContext, index, jdbcIndex);
+
+                    if (v == null)
+                        record.value(index, null);
+                    else
+                        record.primitive(index, AbstractRecord.unbox(type, v));
+
+                    return;
+                }
+
+                if (rs.wasNull())
+                    record.value(index, null);
+                else
+                    record.primitive(index, value);
+            }
         }
     }
 }
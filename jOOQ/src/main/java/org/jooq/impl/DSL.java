@@ -26470,6 +26470,19 @@ public class DSL {
      * <li>{@link NestedCollectionEmulation#DEFAULT}: By default, jOOQ chooses
      * the optimal encoding among the above depending on your dialect,
      * transparently.</li>
+     * <li>{@link NestedCollectionEmulation#BATCHED}: A MULTISET in the
+     * <code>SELECT</code> clause, which is correlated with its parent query
+     * only by equality predicates in its <code>WHERE</code> clause, is fetched
+     * with an additional query for all parent records at once, e.g. using
+     * <code>IN</code> predicates. This only applies to correlations on keys
+     * whose types compare equally in SQL and in Java, such as integer, exact
+     * numeric, boolean, <code>UUID</code>, and local date time types, but not
+     * e.g. strings, which may be subject to collations. Other MULTISETs are
+     * emulated like with {@link NestedCollectionEmulation#DEFAULT}. As the
+     * parent query and its nested collections are fetched using several
+     * statements, the result is not a consistent snapshot of a single
+     * statement, unless a sufficient transaction isolation level is
+     * used.</li>
      * </ul>
      * <p>
      * The emulation to be chosen is governed by
@@ -495,4 +495,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.DateAdd.class, $date(), $interval(), $datePart());
+    }
 }
@@ -51,8 +51,8 @@ import org.jooq.ExecuteContext;
 class DefaultBindingSetStatementContext<U> extends AbstractExecuteScope implements BindingSetStatementContext<U>, ResourceManagingScopeTrait {
 
     private final PreparedStatement statement;
-    private final int               index;
-    private final U                 value;
+    private int                     index;
+    private U                       value;
 
     DefaultBindingSetStatementContext(ExecuteContext ctx, PreparedStatement statement, int index, U value) {
         super(ctx);
@@ -72,11 +72,19 @@ class DefaultBindingSetStatementContext<U> extends AbstractExecuteScope implemen
         return index;
     }
 
+    final void index(int i) {
+        this.index = i;
+    }
+
     @Override
     public final U value() {
         return value;
     }
 
+    final void value(U v) {
+        this.value = v;
+    }
+
     @Override
     public final <T> BindingSetStatementContext<T> convert(Converter<? extends T, ? super U> converter) {
         return new DefaultBindingSetStatementContext<>(ctx, statement, index, scoped(converter).to(value, converterContext()));
@@ -45,16 +45,21 @@ import org.jooq.Configuration;
  */
 final class DefaultCacheContext extends AbstractScope implements CacheContext {
 
-    private final CacheType cacheType;
+    private final DefaultCacheStatistics statistics;
 
-    DefaultCacheContext(Configuration configuration, CacheType cacheType) {
+    DefaultCacheContext(Configuration configuration, DefaultCacheStatistics statistics) {
         super(configuration);
 
-        this.cacheType = cacheType;
+        this.statistics = statistics;
     }
 
     @Override
     public final CacheType cacheType() {
-        return cacheType;
+        return statistics.cacheType();
+    }
+
+    @Override
+    public final void recordEvictions(long count) {
+        statistics.evictions.add(count);
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jooq.CacheStatistics;
+
+/**
+ * The default {@link CacheStatistics} implementation, which also holds the
+ * cache it is counting for.
+ *
+ * @author Lukas Eder
+ */
+final class DefaultCacheStatistics implements CacheStatistics {
+
+    private final CacheType cacheType;
+    final LongAdder         hits;
+    final LongAdder         misses;
+    final LongAdder         loadTime;
+    final LongAdder         evictions;
+    Map<Object, Object>     cache;
+
+    DefaultCacheStatistics(CacheType cacheType) {
+        this.cacheType = cacheType;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.loadTime = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    @Override
+    public final CacheType cacheType() {
+        return cacheType;
+    }
+
+    @Override
+    public final long size() {
+        Map<Object, Object> c = cache;
+        return c == null ? 0 : c.size();
+    }
+
+    @Override
+    public final long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public final long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public final long totalLoadTime() {
+        return loadTime.sum();
+    }
+
+    @Override
+    public final long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return cacheType
+            + " [size=" + size()
+            + ", hits=" + hits()
+            + ", misses=" + misses()
+            + ", hitRatio=" + hitRatio()
+            + ", averageLoadTime=" + averageLoadTime() + "ns"
+            + ", evictions=" + evictions()
+            + "]";
+    }
+}
@@ -50,6 +50,7 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 // ...
 import org.jooq.Converter;
@@ -117,10 +118,7 @@ public final class DefaultConverterProvider implements ConverterProvider, Serial
                 return types.length == 1 && types[0] != uWrapper && provide(tType, types[0]) != null;
             }) != null
         ) {
-            return Converter.of(tType, uType,
-                t -> Convert.convert(t, uType),
-                u -> Convert.convert(u, tType)
-            );
+            return Converter.of(tType, uType, convert(tType, uType), convert(uType, tType));
         }
 
         // [#11762] Make sure possibly legal downcasts / upcasts are working
@@ -143,6 +141,16 @@ public final class DefaultConverterProvider implements ConverterProvider, Serial
             return null;
     }
 
+    private static final <T, U> Function<T, U> convert(Class<T> tType, Class<U> uType) {
+
+        // Identity conversions and up-casts don't need to go through Convert,
+        // unless null values have to be converted to primitives or Optional
+        if (!uType.isPrimitive() && uType != Optional.class && uType.isAssignableFrom(wrapper(tType)))
+            return uType::cast;
+        else
+            return t -> Convert.convert(t, uType);
+    }
+
     private final boolean isJSON(Class<?> type) {
         return type == JSON.class
             || type == JSONB.class;
@@ -37,6 +37,7 @@
  */
 package org.jooq.impl;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
@@ -277,6 +278,7 @@ import org.jooq.exception.SQLDialectNotSupportedException;
 import org.jooq.impl.BatchCRUD.Action;
 import org.jooq.impl.R2DBC.BlockingTransactionSubscription;
 import org.jooq.impl.R2DBC.TransactionSubscription;
+import org.jooq.tools.csv.CSVParser;
 import org.jooq.tools.csv.CSVReader;
 import org.jooq.tools.jdbc.BatchedConnection;
 import org.jooq.tools.jdbc.MockCallable;
@@ -1451,18 +1453,24 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
 
     @Override
     public Result<Record> fetchFromCSV(String string, boolean header, char delimiter) {
-        CSVReader reader = new CSVReader(new StringReader(string), delimiter);
         List<String[]> list = null;
+        CSVReader reader = null;
 
         try {
-            list = reader.readAll();
+
+            // Parse on bytes, unless the delimiter can't be found on bytes
+            if (CSVByteReader.supports(UTF_8, delimiter))
+                list = new CSVByteReader(UTF_8.encode(string), UTF_8, delimiter, CSVParser.DEFAULT_QUOTE_CHARACTER, 0).readAll();
+            else
+                list = (reader = new CSVReader(new StringReader(string), delimiter)).readAll();
         }
         catch (IOException e) {
             throw new DataAccessException("Could not read the CSV string", e);
         }
         finally {
             try {
-                reader.close();
+                if (reader != null)
+                    reader.close();
             }
             catch (IOException ignore) {}
         }
@@ -1509,10 +1517,8 @@ public class DefaultDSLContext extends AbstractScope implements DSLContext, Seri
                 for (String[] values : strings.subList(firstRowIndex, strings.size())) {
                     RecordImplN record = new RecordImplN(row);
 
-                    for (int i = 0; i < Math.min(values.length, fields.length); i++) {
-                        record.values[i] = values[i];
-                        record.originals[i] = values[i];
-                    }
+                    for (int i = 0; i < Math.min(values.length, fields.length); i++)
+                        record.value(i, values[i]);
 
                     result.add(record);
                 }
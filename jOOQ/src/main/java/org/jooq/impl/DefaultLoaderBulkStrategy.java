@@ -35,27 +35,46 @@
  *
  *
  */
+
 package org.jooq.impl;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.sql.SQLException;
+
+import org.jooq.LoaderBulkStrategy;
 
 /**
- * Simple non-thread safe LRUCache
+ * The {@link LoaderBulkStrategy} using the dialect's native bulk loading API,
+ * if available.
  *
  * @author Lukas Eder
  */
-final class LRUCache<K, V> extends LinkedHashMap<K, V> {
-    private final int         size;
+final class DefaultLoaderBulkStrategy implements LoaderBulkStrategy {
 
-    LRUCache(int size) {
-        super(size, 0.75f, true);
+    static final DefaultLoaderBulkStrategy INSTANCE = new DefaultLoaderBulkStrategy();
 
-        this.size = size;
+    @Override
+    public final boolean supports(LoaderBulkContext ctx) throws SQLException {
+        LoaderBulkStrategy strategy = strategy(ctx);
+        return strategy != null && strategy.supports(ctx);
     }
 
     @Override
-    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > size;
+    public final long load(LoaderBulkContext ctx) throws SQLException {
+        return strategy(ctx).load(ctx);
+    }
+
+    private static final LoaderBulkStrategy strategy(LoaderBulkContext ctx) {
+        switch (ctx.dsl().family()) {
+            case MARIADB:
+            case MYSQL:
+                return LoadDataLoaderBulkStrategy.INSTANCE;
+
+            case POSTGRES:
+            case YUGABYTEDB:
+                return CopyLoaderBulkStrategy.INSTANCE;
+
+            default:
+                return null;
+        }
     }
 }
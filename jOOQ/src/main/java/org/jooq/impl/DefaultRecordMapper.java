@@ -39,10 +39,13 @@ package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Collections.emptyList;
 import static org.jooq.impl.DSL.field;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.Tools.EMPTY_FIELD;
+import static org.jooq.impl.Tools.EMPTY_OBJECT;
 import static org.jooq.impl.Tools.configuration;
 import static org.jooq.impl.Tools.getAnnotatedGetter;
 import static org.jooq.impl.Tools.getAnnotatedMembers;
@@ -56,10 +59,11 @@ import static org.jooq.impl.Tools.map;
 import static org.jooq.impl.Tools.newRecord;
 import static org.jooq.impl.Tools.recordType;
 import static org.jooq.impl.Tools.row0;
+import static org.jooq.impl.Tools.setter;
 import static org.jooq.tools.reflect.Reflect.accessible;
 
 import java.beans.ConstructorProperties;
-import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -90,6 +94,9 @@ import jakarta.persistence.Column;
 
 import org.jooq.Attachable;
 import org.jooq.Configuration;
+import org.jooq.ContextConverter;
+import org.jooq.ConverterContext;
+import org.jooq.Converters;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.Record1;
@@ -102,6 +109,7 @@ import org.jooq.TableField;
 import org.jooq.TableRecord;
 import org.jooq.conf.Settings;
 import org.jooq.exception.MappingException;
+import org.jooq.impl.Tools.Setter;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.reflect.Reflect;
 import org.jooq.tools.reflect.ReflectException;
@@ -318,6 +326,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
     private final Configuration            configuration;
     private final String                   namePathSeparator;
 
+    /**
+     * Whether the configuration provides the default converters, which are
+     * also used for records that aren't attached.
+     */
+    private final boolean                  defaultConverters;
+
     /**
      * A delegate mapper created from type information in <code>type</code>.
      */
@@ -353,6 +367,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         this.type = type;
         this.configuration = configuration(configuration);
         this.namePathSeparator = this.configuration.settings().getNamePathSeparator();
+        this.defaultConverters = this.configuration.converterProvider() instanceof DefaultConverterProvider;
 
         init(instance);
     }
@@ -639,6 +654,105 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
+    // -------------------------------------------------------------------------
+    // Compiled mapping plans
+    // -------------------------------------------------------------------------
+
+    /**
+     * Look up the converter for a field and a target type once per mapper,
+     * rather than once per record, or return <code>null</code> if the
+     * converter can be known only from the actual value.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final ContextConverter<Object, Object> converter(int index, Class<?> uType) {
+        Class<?> tType = fields[index].getType();
+
+        if (tType == Converters.UnknownType.class)
+            return null;
+        else
+            return (ContextConverter<Object, Object>) Tools.converter(configuration, null, (Class) tType, (Class) uType);
+    }
+
+    /**
+     * The context for converters compiled by {@link #converter(int, Class)},
+     * or <code>null</code> if the record's configuration may provide
+     * different converters, in case of which {@link Record#get(int, Class)}
+     * has to be used.
+     */
+    private final ConverterContext converterContext(Record record) {
+        Configuration c = record.configuration();
+
+        if (c == configuration || c == null && defaultConverters)
+            return Tools.converterContext(configuration);
+        else
+            return null;
+    }
+
+    private static final Object get(
+        Record record,
+        int index,
+        Class<?> type,
+        ContextConverter<Object, Object> converter,
+        ConverterContext context
+    ) {
+        return converter != null && context != null
+             ? converter.from(record.get(index), context)
+             : record.get(index, type);
+    }
+
+    /**
+     * Compile a constructor into a {@link MethodHandle} of type
+     * <code>(Object[])Object</code>, or return <code>null</code> if that isn't
+     * possible and the constructor has to be called reflectively.
+     */
+    private static final MethodHandle spreader(Constructor<?> constructor) {
+        try {
+            return lookup()
+                .unreflectConstructor(constructor)
+                .asFixedArity()
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(methodType(Object.class, Object[].class));
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A record field mapped onto a POJO member or setter.
+     */
+    private final class Property {
+        final int                              index;
+        final Class<?>                         type;
+        final ContextConverter<Object, Object> converter;
+        final Class<?>                         listComponentType;
+        final Setter                           setter;
+
+        Property(int index, Class<?> type, Type genericType, Setter setter) {
+            this.index = index;
+            this.type = type;
+            this.converter = converter(index, type);
+            this.setter = setter;
+
+            // [#3082] [#10910] [#11213] Try mapping nested collection types
+            if ((type == List.class || type == ArrayList.class)
+                    && genericType instanceof ParameterizedType p
+                    && p.getActualTypeArguments()[0] instanceof Class<?> c)
+                this.listComponentType = c;
+            else
+                this.listComponentType = null;
+        }
+
+        final void map(Record record, Object result, ConverterContext context) throws Exception {
+            Object value = get(record, index, type, converter, context);
+
+            if (listComponentType != null && value instanceof Collection<?> c)
+                value = Convert.convert(c, listComponentType);
+
+            setter.set(result, value);
+        }
+    }
+
     /**
      * Convert a record into an array of a given type.
      * <p>
@@ -693,7 +807,6 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
      */
     private class ProxyMapper extends AbstractDelegateMapper<R, E> {
 
-        private Constructor<Lookup>     constructor;
         private final MutablePOJOMapper pojomapper;
 
         ProxyMapper() {
@@ -723,15 +836,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 // [#5442] Default methods should be invoked to run client implementation
                 else if (method.isDefault())
                     try {
-                        if (constructor == null)
-                            constructor = accessible(Lookup.class.getDeclaredConstructor(Class.class, int.class));
-
-                        Class<?> declaringClass = method.getDeclaringClass();
-                        return constructor
-                            .newInstance(declaringClass, Lookup.PRIVATE)
-                            .unreflectSpecial(method, declaringClass)
-                            .bindTo(result[0])
-                            .invokeWithArguments(args);
+                        return InvocationHandler.invokeDefault(proxy, method, args);
                     }
                     catch (Throwable e) {
                         throw new MappingException("Cannot invoke default method", e);
@@ -764,10 +869,26 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         }
     }
 
-    private static final record ConstructorCall<E>(Constructor<? extends E> constructor) implements Callable<E> {
+    private static final record ConstructorCall<E>(Constructor<? extends E> constructor, MethodHandle handle) implements Callable<E> {
+        ConstructorCall(Constructor<? extends E> constructor) {
+            this(constructor, spreader(constructor));
+        }
+
+        @SuppressWarnings("unchecked")
         @Override
         public E call() throws Exception {
-            return constructor.newInstance();
+            if (handle == null)
+                return constructor.newInstance();
+
+            try {
+                return (E) (Object) handle.invokeExact(EMPTY_OBJECT);
+            }
+            catch (Exception | Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
+                throw new MappingException("An error ocurred when calling " + constructor, e);
+            }
         }
     }
 
@@ -785,6 +906,7 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         private final List<java.lang.reflect.Method>[] methods;
         private final Map<String, NestedMappingInfo>   nestedMappingInfos;
         private final E                                instance;
+        private final Property[]                       properties;
 
         MutablePOJOMapper(Callable<E> constructor, E instance) {
             this.constructor = constructor;
@@ -844,17 +966,39 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                     nestedMappingInfo.row = Tools.row0(list);
                     nestedMappingInfo.recordDelegate = newRecord(true, recordType(nestedMappingInfo.row.size()), nestedMappingInfo.row, configuration);
 
-                    for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true))
+                    for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true)) {
                         nestedMappingInfo.mappers.add(
                             nestedMappingInfo.row.fields.mapper(configuration, member.getType())
                         );
 
-                    for (Method method : getMatchingSetters(configuration, type, prefix, true))
+                        // [#935] Avoid setting final fields
+                        if ((member.getModifiers() & Modifier.FINAL) == 0)
+                            nestedMappingInfo.setters.add(setter(member));
+                    }
+
+                    for (Method method : getMatchingSetters(configuration, type, prefix, true)) {
                         nestedMappingInfo.mappers.add(
                             nestedMappingInfo.row.fields.mapper(configuration, method.getParameterTypes()[0])
                         );
+
+                        nestedMappingInfo.setters.add(setter(method));
+                    }
                 });
             }
+
+            List<Property> p = new ArrayList<>();
+            for (int i = 0; i < fields.length; i++) {
+                for (java.lang.reflect.Field member : members[i])
+
+                    // [#935] Avoid setting final fields
+                    if ((member.getModifiers() & Modifier.FINAL) == 0)
+                        p.add(new Property(i, member.getType(), member.getGenericType(), setter(member)));
+
+                for (Method method : methods[i])
+                    p.add(new Property(i, method.getParameterTypes()[0], method.getGenericParameterTypes()[0], setter(method)));
+            }
+
+            this.properties = p.toArray(new DefaultRecordMapper.Property[0]);
         }
 
         final boolean isMutable() {
@@ -874,46 +1018,21 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         public final E map(R record) {
             try {
                 final E result = instance != null ? instance : constructor.call();
+                final ConverterContext context = converterContext(record);
 
-                for (int i = 0; i < fields.length; i++) {
-                    for (java.lang.reflect.Field member : members[i])
+                for (Property property : properties)
+                    property.map(record, result, context);
 
-                        // [#935] Avoid setting final fields
-                        if ((member.getModifiers() & Modifier.FINAL) == 0)
-                            map(record, result, member, i);
-
-                    for (java.lang.reflect.Method method : methods[i]) {
-                        Class<?> mType = method.getParameterTypes()[0];
-                        Object value = record.get(i, mType);
-
-                        // [#3082] [#10910] Try mapping nested collection types
-                        Object list = tryConvertToList(value, mType, method.getGenericParameterTypes()[0]);
-                        if (list != null)
-                            method.invoke(result, list);
-                        else
-                            method.invoke(result, record.get(i, mType));
-                    }
-                }
-
-                for (final Entry<String, NestedMappingInfo> entry : nestedMappingInfos.entrySet()) {
-                    final String prefix = entry.getKey();
-
-                    for (final RecordMapper<AbstractRecord, Object> mapper : entry.getValue().mappers) {
-                        entry.getValue().recordDelegate.operate(rec -> {
-                            List<Integer> indexes = entry.getValue().indexLookup;
+                for (final NestedMappingInfo info : nestedMappingInfos.values()) {
+                    for (final RecordMapper<AbstractRecord, Object> mapper : info.mappers) {
+                        info.recordDelegate.operate(rec -> {
+                            List<Integer> indexes = info.indexLookup;
                             for (int index = 0; index < indexes.size(); index++)
                                 rec.set(index, record.get(indexes.get(index)));
 
                             Object value = mapper.map(rec);
-                            for (java.lang.reflect.Field member : getMatchingMembers(configuration, type, prefix, true)) {
-
-                                // [#935] Avoid setting final fields
-                                if ((member.getModifiers() & Modifier.FINAL) == 0)
-                                    map(value, result, member);
-                            }
-
-                            for (Method method : getMatchingSetters(configuration, type, prefix, true))
-                                method.invoke(result, value);
+                            for (Setter setter : info.setters)
+                                setter.set(result, value);
 
                             return rec;
                         });
@@ -926,75 +1045,6 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
             }
         }
-
-        private final void map(Record record, Object result, java.lang.reflect.Field member, int index) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    map(record.get(index, byte.class), result, member);
-                else if (mType == short.class)
-                    map(record.get(index, short.class), result, member);
-                else if (mType == int.class)
-                    map(record.get(index, int.class), result, member);
-                else if (mType == long.class)
-                    map(record.get(index, long.class), result, member);
-                else if (mType == float.class)
-                    map(record.get(index, float.class), result, member);
-                else if (mType == double.class)
-                    map(record.get(index, double.class), result, member);
-                else if (mType == boolean.class)
-                    map(record.get(index, boolean.class), result, member);
-                else if (mType == char.class)
-                    map(record.get(index, char.class), result, member);
-            }
-
-            else {
-                Object value = record.get(index, mType);
-
-                // [#3082] [#10910] [#11213] Try mapping nested collection types
-                Object list = tryConvertToList(value, mType, member.getGenericType());
-                if (list != null)
-                    member.set(result, list);
-                else
-                    map(value, result, member);
-            }
-        }
-
-        private final List<?> tryConvertToList(Object value, Class<?> mType, Type genericType) {
-            if (value instanceof Collection && (mType == List.class || mType == ArrayList.class) && genericType instanceof ParameterizedType) {
-                Class<?> componentType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
-                return Convert.convert((Collection<?>) value, componentType);
-            }
-            else
-                return null;
-        }
-
-        private final void map(Object value, Object result, java.lang.reflect.Field member) throws IllegalAccessException {
-            Class<?> mType = member.getType();
-
-            if (mType.isPrimitive()) {
-                if (mType == byte.class)
-                    member.setByte(result, (Byte) value);
-                else if (mType == short.class)
-                    member.setShort(result, (Short) value);
-                else if (mType == int.class)
-                    member.setInt(result, (Integer) value);
-                else if (mType == long.class)
-                    member.setLong(result, (Long) value);
-                else if (mType == float.class)
-                    member.setFloat(result, (Float) value);
-                else if (mType == double.class)
-                    member.setDouble(result, (Double) value);
-                else if (mType == boolean.class)
-                    member.setBoolean(result, (Boolean) value);
-                else if (mType == char.class)
-                    member.setChar(result, (Character) value);
-            }
-            else {
-                member.set(result, value);
-            }
-        }
     }
 
     /**
@@ -1005,6 +1055,9 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
 
         final Constructor<E>                          constructor;
         final Class<?>[]                              parameterTypes;
+        private final MethodHandle                    handle;
+        private final Object[]                        initValues;
+        private final ContextConverter<Object, Object>[] converters;
         private final boolean                         nested;
         private final NestedMappingInfo[]             nestedMappingInfo;
         private final Integer[]                       propertyIndexes;
@@ -1126,34 +1179,51 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
             }
 
             this.nested = hasNestedFields;
+            this.handle = spreader(this.constructor);
+
+            // [#10425] Initialise array to constructor parameter type init values
+            this.initValues = Tools.map(parameterTypes, c -> Reflect.initValue(c), Object[]::new);
+            this.converters = new ContextConverter[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+                if (propertyIndexes[i] != null && propertyIndexes[i] < parameterTypes.length)
+                    converters[i] = converter(i, parameterTypes[propertyIndexes[i]]);
         }
 
+        @SuppressWarnings("unchecked")
         @Override
         public final E map(R record) {
             try {
-                return constructor.newInstance(nested ? mapNested(record) : mapNonnested(record));
+                Object[] args = nested ? mapNested(record) : mapNonnested(record);
+
+                if (handle == null)
+                    return constructor.newInstance(args);
+                else
+                    return (E) (Object) handle.invokeExact(args);
             }
-            catch (Exception e) {
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable e) {
                 throw new MappingException("An error ocurred when mapping record to " + type, e);
             }
         }
 
         private final Object[] mapNonnested(R record) {
-
-            // [#10425] Initialise array to constructor parameter type init values
-            Object[] converted = Tools.map(parameterTypes, c -> Reflect.initValue(c), Object[]::new);
+            Object[] converted = initValues.clone();
+            ConverterContext context = converterContext(record);
 
             for (int i = 0; i < record.size(); i++)
-                set(record, i, converted, propertyIndexes[i]);
+                set(record, i, converted, propertyIndexes[i], context);
 
             return converted;
         }
 
-        final void set(Record from, int fromIndex, Object[] to, Integer toIndex) {
+        final void set(Record from, int fromIndex, Object[] to, Integer toIndex, ConverterContext context) {
 
             // TODO: This logic could be applicable to mapNested() as well?
             if (toIndex != null) {
-                to[toIndex] = from.get(fromIndex, parameterTypes[toIndex]);
+                to[toIndex] = get(from, fromIndex, parameterTypes[toIndex], converters[fromIndex], context);
             }
             else {
                 for (java.lang.reflect.Field member : members[fromIndex]) {
@@ -1234,10 +1304,12 @@ public class DefaultRecordMapper<R extends Record, E> implements RecordMapper<R,
         AbstractRow                                      row;
         final List<Integer>                              indexLookup;
         RecordDelegate<? extends AbstractRecord>         recordDelegate;
+        final List<Setter>                               setters;
 
         NestedMappingInfo() {
             mappers = new ArrayList<>();
             indexLookup = new ArrayList<>();
+            setters = new ArrayList<>();
         }
 
         @Override
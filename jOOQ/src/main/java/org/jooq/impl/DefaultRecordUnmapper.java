@@ -41,9 +41,11 @@ import static org.jooq.impl.Tools.getAnnotatedGetter;
 import static org.jooq.impl.Tools.getAnnotatedMembers;
 import static org.jooq.impl.Tools.getMatchingGetter;
 import static org.jooq.impl.Tools.getMatchingMembers;
+import static org.jooq.impl.Tools.getter;
 import static org.jooq.impl.Tools.hasColumnAnnotations;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,7 @@ import org.jooq.Record;
 import org.jooq.RecordType;
 import org.jooq.RecordUnmapper;
 import org.jooq.exception.MappingException;
+import org.jooq.impl.Tools.Getter;
 
 /**
  * A default implementation for unmapping a custom type to a {@link Record}.
@@ -110,33 +113,6 @@ public class DefaultRecordUnmapper<E, R extends Record> implements RecordUnmappe
         return Tools.newRecord(false, recordType, row, configuration).operate(null);
     }
 
-    private static final void setValue(Record record, Object source, java.lang.reflect.Field member, Field<?> field)
-        throws IllegalAccessException {
-
-        Class<?> mType = member.getType();
-
-        if (mType.isPrimitive()) {
-            if (mType == byte.class)
-                Tools.setValue(record, field, member.getByte(source));
-            else if (mType == short.class)
-                Tools.setValue(record, field, member.getShort(source));
-            else if (mType == int.class)
-                Tools.setValue(record, field, member.getInt(source));
-            else if (mType == long.class)
-                Tools.setValue(record, field, member.getLong(source));
-            else if (mType == float.class)
-                Tools.setValue(record, field, member.getFloat(source));
-            else if (mType == double.class)
-                Tools.setValue(record, field, member.getDouble(source));
-            else if (mType == boolean.class)
-                Tools.setValue(record, field, member.getBoolean(source));
-            else if (mType == char.class)
-                Tools.setValue(record, field, member.getChar(source));
-        }
-        else
-            Tools.setValue(record, field, member.get(source));
-    }
-
     private final class ArrayUnmapper implements RecordUnmapper<E, R> {
 
         @SuppressWarnings({ "unchecked" })
@@ -204,36 +180,61 @@ public class DefaultRecordUnmapper<E, R extends Record> implements RecordUnmappe
 
     private final class PojoUnmapper implements RecordUnmapper<E, R> {
 
+        /**
+         * The indexes of the fields that are unmapped from the POJO.
+         */
+        private final int[]    indexes;
+
+        /**
+         * The getters or members used to read the values of the fields.
+         */
+        private final Getter[] getters;
+
+        PojoUnmapper() {
+            boolean useAnnotations = hasColumnAnnotations(configuration, type);
+            List<Integer> i = new ArrayList<>();
+            List<Getter> g = new ArrayList<>();
+
+            for (int j = 0; j < fields.length; j++) {
+                Field<?> field = fields[j];
+                List<java.lang.reflect.Field> members;
+                Method method;
+
+                // Annotations are available and present
+                if (useAnnotations) {
+                    members = getAnnotatedMembers(configuration, type, field.getName(), true);
+                    method = getAnnotatedGetter(configuration, type, field.getName(), true);
+                }
+
+                // No annotations are present
+                else {
+                    members = getMatchingMembers(configuration, type, field.getName(), true);
+                    method = getMatchingGetter(configuration, type, field.getName(), true);
+                }
+
+                // Use only the first applicable method or member
+                if (method != null) {
+                    i.add(j);
+                    g.add(getter(method));
+                }
+                else if (members.size() > 0) {
+                    i.add(j);
+                    g.add(getter(members.get(0)));
+                }
+            }
+
+            this.indexes = i.stream().mapToInt(Integer::intValue).toArray();
+            this.getters = g.toArray(new Getter[0]);
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         public R unmap(E source) {
-            Record record = newRecord();
+            AbstractRecord record = (AbstractRecord) newRecord();
 
             try {
-                boolean useAnnotations = hasColumnAnnotations(configuration, type);
-
-                for (Field<?> field : fields) {
-                    List<java.lang.reflect.Field> members;
-                    Method method;
-
-                    // Annotations are available and present
-                    if (useAnnotations) {
-                        members = getAnnotatedMembers(configuration, type, field.getName(), true);
-                        method = getAnnotatedGetter(configuration, type, field.getName(), true);
-                    }
-
-                    // No annotations are present
-                    else {
-                        members = getMatchingMembers(configuration, type, field.getName(), true);
-                        method = getMatchingGetter(configuration, type, field.getName(), true);
-                    }
-
-                    // Use only the first applicable method or member
-                    if (method != null)
-                        Tools.setValue(record, field, method.invoke(source));
-                    else if (members.size() > 0)
-                        setValue(record, source, members.get(0), field);
-                }
+                for (int i = 0; i < indexes.length; i++)
+                    Tools.setValue(record, fields[indexes[i]], indexes[i], getters[i].get(source));
 
                 return (R) record;
             }
@@ -37,6 +37,9 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
+import static org.jooq.impl.CacheType.CACHE_RECORD_UNMAPPERS;
+
 import java.io.Serializable;
 
 import org.jooq.Configuration;
@@ -70,6 +73,9 @@ public class DefaultRecordUnmapperProvider implements RecordUnmapperProvider, Se
 
     @Override
     public final <E, R extends Record> RecordUnmapper<E, R> provide(Class<? extends E> type, RecordType<R> rowType) {
-        return new DefaultRecordUnmapper<>(type, rowType, configuration);
+        if (configuration != null && TRUE.equals(configuration.settings().isCacheRecordMappers()))
+            return Cache.run(configuration, () -> new DefaultRecordUnmapper<>(type, rowType, configuration), CACHE_RECORD_UNMAPPERS, () -> Cache.key(type, rowType));
+        else
+            return new DefaultRecordUnmapper<>(type, rowType, configuration);
     }
 }
@@ -56,6 +56,7 @@ import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -176,6 +177,31 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
         return bindValues;
     }
 
+    /**
+     * Trace the collected {@link #bindValues()} back to the input bind values
+     * they originate from, through any wrappings applied while rendering.
+     *
+     * @param inputs The input bind values, and the bind values converted from
+     *            them, and their indexes, by identity.
+     * @return The index of the input bind value for each collected bind value,
+     *         or <code>-1</code> if a collected bind value doesn't originate
+     *         from any input bind value.
+     */
+    final int[] bindOrigins(Map<Param<?>, Integer> inputs) {
+        int[] result = new int[bindValues.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            Integer index = inputs.get(origin(bindValues.get(i)));
+            result[i] = index == null ? -1 : index;
+        }
+
+        return result;
+    }
+
+    private static final Param<?> origin(Param<?> param) {
+        return param instanceof ConvertedVal<?> c ? c.delegate : param;
+    }
+
     // ------------------------------------------------------------------------
     // RenderContext API
     // ------------------------------------------------------------------------
@@ -738,15 +764,24 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             if (!param.isInline()) {
                 bindValues.add(param);
 
-                Integer threshold = settings().getInlineThreshold();
-                if (threshold != null && threshold > 0) {
-                    checkForceInline(threshold);
-                }
-                else {
-                    switch (family()) {
+                int limit = bindValueLimit(configuration());
+                if (limit > 0)
+                    checkForceInline(limit);
+            }
+        }
+    }
 
+    /**
+     * The maximum number of bind values that can be used in a statement, or
+     * <code>0</code> if there is no known limit.
+     */
+    static final int bindValueLimit(Configuration configuration) {
+        Integer threshold = configuration.settings().getInlineThreshold();
 
+        if (threshold != null && threshold > 0)
+            return threshold;
 
+        switch (configuration.family()) {
 
 
 
@@ -768,21 +803,19 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
 
 
-                        // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
-                        case POSTGRES:
-                        case YUGABYTEDB:
-                            checkForceInline(32767);
-                            break;
 
-                        case SQLITE:
-                            checkForceInline(999);
-                            break;
 
-                        default:
-                            break;
-                    }
-                }
-            }
+
+            // [#5701] Tests were conducted with PostgreSQL 9.5 and pgjdbc 9.4.1209
+            case POSTGRES:
+            case YUGABYTEDB:
+                return 32767;
+
+            case SQLITE:
+                return 999;
+
+            default:
+                return 0;
         }
     }
 
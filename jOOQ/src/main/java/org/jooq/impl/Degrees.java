@@ -234,4 +234,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Degrees.class, $radians());
+    }
 }
@@ -233,4 +233,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Eq.class, $arg1(), $arg2());
+    }
 }
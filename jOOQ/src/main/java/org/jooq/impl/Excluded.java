@@ -191,4 +191,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Excluded.class, $field());
+    }
 }
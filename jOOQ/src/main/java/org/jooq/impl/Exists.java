@@ -186,4 +186,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Exists.class, $query());
+    }
 }
@@ -178,4 +178,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.FieldCondition.class, $field());
+    }
 }
@@ -479,6 +479,17 @@ final class FieldMapsForInsert extends AbstractQueryPart implements UNotYetImple
         }
     }
 
+    /**
+     * Set the rows <code>[from, to)</code> of another insert map.
+     */
+    final void set(FieldMapsForInsert other, int from, int to) {
+        other.initNextRow();
+        empty.putAll(other.empty);
+        other.values.forEach((k, v) -> values.put(k, new ArrayList<>(v.subList(from, to))));
+        rows = to - from;
+        nextRow = rows - 1;
+    }
+
     final void set(Collection<? extends Field<?>> fields) {
         initNextRow();
 
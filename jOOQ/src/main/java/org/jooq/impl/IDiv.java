@@ -150,4 +150,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Div.class, $arg1(), $arg2());
+    }
 }
@@ -62,6 +62,7 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 // ...
 import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.impl.DSL.constraint;
 import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.name;
@@ -101,6 +102,7 @@ import static org.jooq.impl.Tools.BooleanDataKey.DATA_INSERT_SELECT_WITHOUT_INSE
 import static org.jooq.impl.Tools.BooleanDataKey.DATA_MANDATORY_WHERE_CLAUSE;
 import static org.jooq.impl.Tools.SimpleDataKey.DATA_ON_DUPLICATE_KEY_WHERE;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -110,6 +112,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.jooq.BindContext;
 import org.jooq.Clause;
 import org.jooq.Condition;
 import org.jooq.Configuration;
@@ -124,6 +127,7 @@ import org.jooq.MergeOnConditionStep;
 import org.jooq.Name;
 import org.jooq.Operator;
 // ...
+import org.jooq.Query;
 import org.jooq.QueryPart;
 import org.jooq.Record;
 import org.jooq.SQLDialect;
@@ -1060,6 +1064,91 @@ implements
         return insertMaps.isExecutable() || defaultValues(configuration()) || select != null;
     }
 
+    @Override
+    final List<? extends Query> chunks(Configuration c) {
+        if (!TRUE.equals(c.settings().isExecuteMultiRowInsertsInChunks())
+            || select != null
+            || !returning.isEmpty()
+            || !executePreparedStatements(c.settings())
+            || insertMaps.values.isEmpty())
+            return null;
+
+        int limit = DefaultRenderContext.bindValueLimit(c);
+        if (limit <= 0)
+            return null;
+
+        // Reserve bind values for the clauses that are repeated in each chunk,
+        // e.g. ON DUPLICATE KEY UPDATE
+        BindCounter counter = new BindCounter(c);
+        counter.visit(updateMap).visit(onConflictWhere).visit(condition);
+        int available = limit - counter.binds;
+
+        // Rows, embeddables, arrays, converted and inlined values may bind any
+        // number of values per column, so count the actual binds of each row
+        List<Map<Field<?>, Field<?>>> maps = insertMaps.maps();
+        List<InsertQueryImpl<R>> result = new ArrayList<>();
+        int rows = maps.size();
+        int from = 0;
+        int binds = 0;
+
+        for (int i = 0; i < rows; i++) {
+            int before = counter.binds;
+
+            for (Field<?> value : maps.get(i).values())
+                counter.visit(value);
+
+            int row = counter.binds - before;
+            if (i > from && binds + row > available) {
+                result.add(chunk(c, from, i));
+                from = i;
+                binds = 0;
+            }
+
+            binds += row;
+        }
+
+        if (from == 0)
+            return null;
+
+        result.add(chunk(c, from, rows));
+        return result;
+    }
+
+    private final InsertQueryImpl<R> chunk(Configuration c, int from, int to) {
+        InsertQueryImpl<R> result = new InsertQueryImpl<>(c, with, table);
+
+        result.insertMaps.set(insertMaps, from, to);
+        result.updateMap.putAll(updateMap);
+        result.defaultValues = defaultValues;
+        result.onDuplicateKeyUpdate = onDuplicateKeyUpdate;
+        result.onDuplicateKeyIgnore = onDuplicateKeyIgnore;
+        result.onConstraint = onConstraint;
+        result.onConstraintUniqueKey = onConstraintUniqueKey;
+        result.onConflict = onConflict;
+        result.onConflictWhere.setWhere(onConflictWhere.getWhereOrNull());
+        result.condition.setWhere(condition.getWhereOrNull());
+
+        return result;
+    }
+
+    /**
+     * A stub {@link BindContext} that counts the values that are bound by a
+     * {@link QueryPart}.
+     */
+    private static final class BindCounter extends AbstractBindContext {
+        int binds;
+
+        BindCounter(Configuration configuration) {
+            super(configuration, null, null);
+        }
+
+        @Override
+        protected final BindContext bindValue0(Object value, Field<?> field) throws SQLException {
+            binds++;
+            return this;
+        }
+    }
+
 
 
 
@@ -154,4 +154,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.IsJson.class, $field());
+    }
 }
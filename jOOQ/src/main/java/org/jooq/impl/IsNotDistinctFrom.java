@@ -189,4 +189,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.IsNotDistinctFrom.class, $arg1(), $arg2());
+    }
 }
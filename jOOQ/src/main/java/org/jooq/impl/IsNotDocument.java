@@ -142,4 +142,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.IsNotDocument.class, $field());
+    }
 }
@@ -156,4 +156,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.IsNull.class, $field());
+    }
 }
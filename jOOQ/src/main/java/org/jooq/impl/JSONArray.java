@@ -342,4 +342,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.JSONArray.class, $type(), $fields(), $onNull(), $returning());
+    }
 }
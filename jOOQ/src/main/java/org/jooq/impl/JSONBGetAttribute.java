@@ -214,4 +214,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.JSONBGetAttribute.class, $field(), $attribute());
+    }
 }
@@ -214,4 +214,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.JSONBGetElementAsText.class, $field(), $index());
+    }
 }
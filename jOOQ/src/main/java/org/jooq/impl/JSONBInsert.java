@@ -215,4 +215,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.JSONBInsert.class, $field(), $path(), $value());
+    }
 }
@@ -353,4 +353,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.JSONObject.class, $type(), $entries(), $onNull(), $returning());
+    }
 }
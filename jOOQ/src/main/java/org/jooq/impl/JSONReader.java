@@ -39,6 +39,7 @@ package org.jooq.impl;
 
 import static java.lang.Integer.parseInt;
 import static java.util.Arrays.asList;
+import static java.util.function.Function.identity;
 // ...
 // ...
 // ...
@@ -59,21 +60,28 @@ import static org.jooq.tools.StringUtils.defaultIfBlank;
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.jooq.DSLContext;
+import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Fields;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SQLDialect;
-import org.jooq.tools.json.ContainerFactory;
+import org.jooq.tools.json.ContentHandler;
 import org.jooq.tools.json.JSONParser;
 
 /**
@@ -106,24 +114,29 @@ final class JSONReader<R extends Record> {
     }
 
     final Result<R> read(final Reader reader, boolean multiset) {
-        try {
-            Object root = new JSONParser().parse(reader, new ContainerFactory() {
-                @Override
-                public Map createObjectContainer() {
-                    return new LinkedHashMap();
-                }
 
-                @Override
-                public List createArrayContainer() {
-                    return new ArrayList();
-                }
-            });
+        // MULTISET documents are decoded directly into records of the known
+        // row type. Other documents are read one record at a time, without
+        // building the entire document's tree in memory.
+        if (multiset)
+            return new Multiset().read(reader);
 
-            return read(ctx, row, recordType, multiset, root);
-        }
-        catch (Exception e) {
-            throw new RuntimeException(e);
+        Records records = new Records(reader);
+        Result<R> result = null;
+
+        while (records.hasNext()) {
+            R record = records.next();
+
+            if (result == null)
+                result = new ResultImpl<>(ctx.configuration(), records.actualRow);
+
+            result.add(record);
         }
+
+        if (result == null && records.actualRow != null)
+            result = new ResultImpl<>(ctx.configuration(), records.actualRow);
+
+        return result;
     }
 
     private static final <R extends Record> Result<R> read(
@@ -140,21 +153,7 @@ final class JSONReader<R extends Record> {
 
         if (root instanceof Map) {
             Map<String, Object> o1 = (Map<String, Object>) root;
-            List<Map<String, String>> fields = (List<Map<String, String>>) o1.get("fields");
-
-            if (fields != null) {
-                for (Map<String, String> field : fields) {
-                    String catalog = field.get("catalog");
-                    String schema = field.get("schema");
-                    String table = field.get("table");
-                    String name = field.get("name");
-                    String type = field.get("type");
-
-                    // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
-                    header.add(field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR"))));
-                }
-            }
-
+            header(header, o1.get("fields"));
             records = (List<?>) o1.get("records");
         }
         else
@@ -168,67 +167,572 @@ final class JSONReader<R extends Record> {
 
         if (records != null) {
             for (Object o3 : records) {
-                if (o3 instanceof Map) {
-                    Map<String, Object> record = (Map<String, Object>) o3;
-
-                    if (result == null) {
-                        if (header.isEmpty())
-                            for (String name : record.keySet())
-                                header.add(field(name(name), VARCHAR));
-
-                        result = new ResultImpl<>(ctx.configuration(), actualRow = (AbstractRow<R>) Tools.row0(header));
-                    }
-
-                    List<Object> list = multiset
-                        ? patchRecord(
-                            ctx,
-                            multiset,
-                            actualRow,
-
-                            // This sort is required if we use the JSONFormat.RecordFormat.OBJECT encoding (e.g. in SQL Server)
-                            sortedValues(record)
-                        )
-                        : null;
-
-                    result.add(newRecord(true, recordType, actualRow, ctx.configuration()).operate(r -> {
-                        if (multiset)
-                            r.from(list);
-                        else
-                            r.fromMap(record);
-
-                        r.changed(false);
-                        return r;
-                    }));
-                }
-                else {
-                    List<Object> record = (List<Object>) o3;
-
-                    if (result == null) {
-                        if (header.isEmpty())
-                            header.addAll(asList(fields(record.size())));
-
-                        result = new ResultImpl<>(ctx.configuration(), actualRow = (AbstractRow<R>) Tools.row0(header));
-                    }
-
-                    patchRecord(ctx, multiset, actualRow, record);
-
-                    // [#12930] NULL records are possible when nested ROW is
-                    //          returned from an empty scalar subquery.
-                    if (record == null)
-                        result.add(null);
-                    else
-                        result.add(newRecord(true, recordType, actualRow, ctx.configuration()).operate(r -> {
-                            r.from(record);
-                            r.changed(false);
-                            return r;
-                        }));
+                if (result == null) {
+                    if (header.isEmpty())
+                        headerFromRecord(header, o3);
+
+                    result = new ResultImpl<>(ctx.configuration(), actualRow = (AbstractRow<R>) Tools.row0(header));
                 }
+
+                result.add(record(ctx, actualRow, recordType, multiset, o3));
             }
         }
 
         return result;
     }
 
+    /**
+     * Read the header from a <code>"fields"</code> array.
+     */
+    private static final void header(List<Field<?>> header, Object o) {
+        List<Map<String, String>> fields = (List<Map<String, String>>) o;
+
+        if (fields != null) {
+            for (Map<String, String> field : fields) {
+                String catalog = field.get("catalog");
+                String schema = field.get("schema");
+                String table = field.get("table");
+                String name = field.get("name");
+                String type = field.get("type");
+
+                // [#13426] Don't use the dialect specific data type, because that isn't what's being exported, either.
+                header.add(field(name(catalog, schema, table, name), getDataType(null, defaultIfBlank(type, "VARCHAR"))));
+            }
+        }
+    }
+
+    /**
+     * Derive a header from the first record, in the absence of a
+     * <code>"fields"</code> array.
+     */
+    private static final void headerFromRecord(List<Field<?>> header, Object o3) {
+        if (o3 instanceof Map) {
+            for (String name : ((Map<String, Object>) o3).keySet())
+                header.add(field(name(name), VARCHAR));
+        }
+        else
+            header.addAll(asList(fields(((List<Object>) o3).size())));
+    }
+
+    private static final <R extends Record> R record(
+        DSLContext ctx,
+        AbstractRow<R> actualRow,
+        Class<? extends R> recordType,
+        boolean multiset,
+        Object o3
+    ) {
+        if (o3 instanceof Map) {
+            Map<String, Object> record = (Map<String, Object>) o3;
+            List<Object> list = multiset
+                ? patchRecord(
+                    ctx,
+                    multiset,
+                    actualRow,
+
+                    // This sort is required if we use the JSONFormat.RecordFormat.OBJECT encoding (e.g. in SQL Server)
+                    sortedValues(record)
+                )
+                : null;
+
+            return newRecord(true, recordType, actualRow, ctx.configuration()).operate(r -> {
+                if (multiset)
+                    r.from(list);
+                else
+                    r.fromMap(record);
+
+                r.changed(false);
+                return r;
+            });
+        }
+        else {
+            List<Object> record = (List<Object>) o3;
+            patchRecord(ctx, multiset, actualRow, record);
+
+            // [#12930] NULL records are possible when nested ROW is
+            //          returned from an empty scalar subquery.
+            if (record == null)
+                return null;
+            else
+                return newRecord(true, recordType, actualRow, ctx.configuration()).operate(r -> {
+                    r.from(record);
+                    r.changed(false);
+                    return r;
+                });
+        }
+    }
+
+    /**
+     * An iterator over the records of a JSON document, which reads the
+     * document one record at a time.
+     * <p>
+     * Only the <code>"fields"</code> header and the current record are held in
+     * memory, other content is skipped. If an object document has no
+     * <code>"fields"</code> header before its <code>"records"</code>, the
+     * records are buffered until the header or the end of the document is
+     * reached.
+     */
+    final class Records implements Iterator<R>, ContentHandler {
+        final Reader         reader;
+        final JSONParser     parser    = new JSONParser();
+        final List<Field<?>> header    = new ArrayList<>();
+        final Deque<Object>  stack     = new ArrayDeque<>();
+        final Deque<String>  keys      = new ArrayDeque<>();
+        AbstractRow<R>       actualRow = row;
+        int                  depth;
+        boolean              rootObject;
+        boolean              inRecords;
+        String               rootKey;
+        boolean              started;
+        boolean              ended;
+        final List<Object>   buffer    = new ArrayList<>();
+        int                  position;
+
+        Records(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * The fields of the records, once they are known.
+         */
+        final Field<?>[] fields() {
+            return actualRow == null ? null : actualRow.fields();
+        }
+
+        /**
+         * Whether records can't be produced yet, because a
+         * <code>"fields"</code> header may still follow them.
+         */
+        private final boolean waiting() {
+            return rootObject && actualRow == null && header.isEmpty() && !ended;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            while ((position == buffer.size() || waiting()) && !ended) {
+                if (position == buffer.size()) {
+                    buffer.clear();
+                    position = 0;
+                }
+
+                try {
+                    parser.parse(reader, this, started);
+                    started = true;
+                }
+                catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            if (ended && actualRow == null && !header.isEmpty())
+                actualRow = (AbstractRow<R>) Tools.row0(header);
+
+            return position < buffer.size();
+        }
+
+        @Override
+        public final R next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            Object o3 = buffer.set(position++, null);
+
+            if (actualRow == null) {
+                if (header.isEmpty())
+                    headerFromRecord(header, o3);
+
+                actualRow = (AbstractRow<R>) Tools.row0(header);
+            }
+
+            return record(ctx, actualRow, recordType, false, o3);
+        }
+
+        // ---------------------------------------------------------------------
+        // The ContentHandler API
+        // ---------------------------------------------------------------------
+
+        @Override
+        public final void startJSON() {}
+
+        @Override
+        public final void endJSON() {
+            ended = true;
+        }
+
+        @Override
+        public final boolean startObject() {
+            return start(new LinkedHashMap<>());
+        }
+
+        @Override
+        public final boolean startArray() {
+            return start(new ArrayList<>());
+        }
+
+        @Override
+        public final boolean endObject() {
+            return end();
+        }
+
+        @Override
+        public final boolean endArray() {
+            return end();
+        }
+
+        @Override
+        public final boolean startObjectEntry(String key) {
+            if (stack.isEmpty())
+                rootKey = key;
+            else
+                keys.push(key);
+
+            return true;
+        }
+
+        @Override
+        public final boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public final boolean primitive(Object value) {
+            return value(value);
+        }
+
+        private final boolean start(Object container) {
+
+            // The root and the "records" array aren't built in memory
+            if (stack.isEmpty()) {
+                if (depth == 0) {
+                    depth++;
+                    rootObject = container instanceof Map;
+                    inRecords = !rootObject;
+                    return true;
+                }
+                else if (depth == 1 && rootObject && "records".equals(rootKey) && container instanceof List) {
+                    depth++;
+                    inRecords = true;
+                    return true;
+                }
+            }
+
+            stack.push(container);
+            return true;
+        }
+
+        private final boolean end() {
+            if (stack.isEmpty()) {
+                depth--;
+                inRecords = false;
+                return true;
+            }
+            else
+                return value(stack.pop());
+        }
+
+        /**
+         * Receive a complete value.
+         *
+         * @return <code>false</code> to pause parsing after a record that can
+         *         be produced.
+         */
+        private final boolean value(Object value) {
+            if (!stack.isEmpty()) {
+                if (stack.peek() instanceof Map m)
+                    m.put(keys.pop(), value);
+                else
+                    ((List) stack.peek()).add(value);
+            }
+            else if (inRecords) {
+                buffer.add(value);
+                return waiting();
+            }
+            else if (depth == 1 && rootObject && "fields".equals(rootKey))
+                header(header, value);
+
+            return true;
+        }
+    }
+
+    /**
+     * A decoder of MULTISET documents, which writes values directly into
+     * records of the known row type, as they are parsed.
+     * <p>
+     * Unlike {@link Records}, no intermediate {@link Map} or {@link List} is
+     * built for nested records and results, and each value is converted only
+     * once, to its field's type.
+     */
+    final class Multiset implements ContentHandler {
+        final Deque<Frame> stack = new ArrayDeque<>();
+        Result<R>          result;
+
+        final Result<R> read(Reader reader) {
+            try {
+                new JSONParser().parse(reader, this);
+                return result;
+            }
+            catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        // ---------------------------------------------------------------------
+        // The ContentHandler API
+        // ---------------------------------------------------------------------
+
+        @Override
+        public final void startJSON() {}
+
+        @Override
+        public final void endJSON() {}
+
+        @Override
+        public final boolean startObject() {
+            return start(true);
+        }
+
+        @Override
+        public final boolean startArray() {
+            return start(false);
+        }
+
+        @Override
+        public final boolean endObject() {
+            return end();
+        }
+
+        @Override
+        public final boolean endArray() {
+            return end();
+        }
+
+        @Override
+        public final boolean startObjectEntry(String key) {
+            stack.peek().key(key);
+            return true;
+        }
+
+        @Override
+        public final boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public final boolean primitive(Object value) {
+            stack.peek().value(value);
+            return true;
+        }
+
+        private final boolean start(boolean object) {
+            if (!stack.isEmpty())
+                stack.push(stack.peek().child(object));
+
+            // A {"fields": [...], "records": [...]} document is read as a tree
+            else if (object)
+                stack.push(new TreeFrame(true, o -> JSONReader.read(ctx, row, recordType, true, o)));
+            else
+                stack.push(new ResultFrame(row, recordType));
+
+            return true;
+        }
+
+        private final boolean end() {
+            Object value = stack.pop().end();
+
+            if (stack.isEmpty())
+                result = (Result<R>) value;
+            else
+                stack.peek().value(value);
+
+            return true;
+        }
+    }
+
+    private static abstract class Frame {
+
+        /**
+         * The frame of a nested object or array value.
+         */
+        abstract Frame child(boolean object);
+
+        abstract void key(String key);
+
+        /**
+         * Receive a primitive value, or the value of a completed child frame.
+         */
+        abstract void value(Object value);
+
+        abstract Object end();
+    }
+
+    /**
+     * An array of records.
+     */
+    private final class ResultFrame extends Frame {
+        final AbstractRow<Record>     row;
+        final Class<? extends Record> recordType;
+        final Field<?>[]              fields;
+        final Object[]                values;
+        final Result<Record>          result;
+
+        ResultFrame(AbstractRow<?> row, Class<?> recordType) {
+            this.row = (AbstractRow<Record>) row;
+            this.recordType = recordType != null ? (Class<? extends Record>) recordType : Record.class;
+            this.fields = row.fields();
+            this.values = new Object[fields.length];
+            this.result = new ResultImpl<>(ctx.configuration(), this.row);
+        }
+
+        @Override
+        final Frame child(boolean object) {
+
+            // The values buffer is shared by all the records of this result
+            return new RecordFrame(row, recordType, fields, values, object);
+        }
+
+        @Override
+        final void key(String key) {}
+
+        @Override
+        final void value(Object value) {
+
+            // [#12930] NULL records are possible when nested ROW is
+            //          returned from an empty scalar subquery.
+            if (value == null || value instanceof Record)
+                result.add((Record) value);
+
+            // A scalar value in place of a record is read as its first value
+            else {
+                Frame record = child(false);
+                record.value(value);
+                result.add((Record) record.end());
+            }
+        }
+
+        @Override
+        final Object end() {
+            return result;
+        }
+    }
+
+    /**
+     * An array or object of a record's values.
+     */
+    private final class RecordFrame extends Frame {
+        final AbstractRow<Record>     row;
+        final Class<? extends Record> recordType;
+        final Field<?>[]              fields;
+        final Object[]                values;
+        final boolean                 object;
+        int                           column;
+
+        RecordFrame(AbstractRow<?> row, Class<?> recordType, Field<?>[] fields, Object[] values, boolean object) {
+            this.row = (AbstractRow<Record>) row;
+            this.recordType = recordType != null ? (Class<? extends Record>) recordType : Record.class;
+            this.fields = fields;
+            this.values = values;
+            this.object = object;
+        }
+
+        @Override
+        final Frame child(boolean o) {
+            if (column >= fields.length)
+                return new TreeFrame(o, identity());
+
+            DataType<?> t = fields[column].getDataType();
+
+            // [#12155] Recurse for nested data types
+            if (t.isMultiset())
+                return o
+                    ? new TreeFrame(true, x -> JSONReader.read(ctx, (AbstractRow) t.getRow(), (Class) t.getRecordType(), true, x))
+                    : new ResultFrame((AbstractRow<?>) t.getRow(), t.getRecordType());
+            else if (t.isRecord()) {
+                AbstractRow<?> r = (AbstractRow<?>) t.getRow();
+                return new RecordFrame(r, t.getRecordType(), r.fields(), new Object[r.size()], o);
+            }
+
+            // Other values, e.g. JSON or arrays, are converted from their tree
+            else
+                return new TreeFrame(o, identity());
+        }
+
+        @Override
+        final void key(String key) {
+
+            // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
+            column = parseInt(key.substring(1));
+        }
+
+        @Override
+        final void value(Object value) {
+            if (column < fields.length) {
+                Field<?> field = fields[column];
+
+                // [#8829] Binary data is encoded as a string
+                if (field.getType() == byte[].class && value instanceof String s)
+                    value = binary(ctx, true, s);
+
+                // An empty MULTISET may be encoded as NULL
+                else if (value == null && field.getDataType().isMultiset())
+                    value = new ResultImpl<>(ctx.configuration(), (AbstractRow<?>) field.getDataType().getRow());
+
+                values[column] = field.getDataType().convert(value);
+            }
+
+            column++;
+        }
+
+        @Override
+        final Object end() {
+            Record record = newRecord(true, recordType, row, ctx.configuration()).operate(r -> {
+                for (int i = 0; i < values.length; i++)
+                    ((AbstractRecord) r).value(i, values[i]);
+
+                return r;
+            });
+
+            Arrays.fill(values, null);
+            return record;
+        }
+    }
+
+    /**
+     * A {@link Map} or {@link List} tree of values, for content whose type
+     * can't be decoded directly.
+     */
+    private static final class TreeFrame extends Frame {
+        final Function<Object, Object> finisher;
+        final Object                   container;
+        String                         key;
+
+        TreeFrame(boolean object, Function<Object, Object> finisher) {
+            this.finisher = finisher;
+            this.container = object ? new LinkedHashMap<>() : new ArrayList<>();
+        }
+
+        @Override
+        final Frame child(boolean object) {
+            return new TreeFrame(object, identity());
+        }
+
+        @Override
+        final void key(String k) {
+            this.key = k;
+        }
+
+        @Override
+        final void value(Object value) {
+            if (container instanceof Map m)
+                m.put(key, value);
+            else
+                ((List) container).add(value);
+        }
+
+        @Override
+        final Object end() {
+            return finisher.apply(container);
+        }
+    }
+
     private static final List<Object> sortedValues(Map<String, Object> record) {
 
         // [#13200] The MULTISET map keys are always of the form v0, v1, v2, ...
@@ -245,38 +749,39 @@ final class JSONReader<R extends Record> {
     private static final Set<SQLDialect> ENCODE_BINARY_AS_HEX  = SQLDialect.supportedBy(H2, POSTGRES, SQLITE, YUGABYTEDB);
     private static final Set<SQLDialect> ENCODE_BINARY_AS_TEXT = SQLDialect.supportedBy(MARIADB);
 
+    private static final Object binary(DSLContext ctx, boolean multiset, String s) {
+        if (multiset) {
+
+            // [#12134] PostgreSQL encodes binary data as hex
+            // TODO [#13427] This doesn't work if bytea_output is set to escape
+            if (ENCODE_BINARY_AS_HEX.contains(ctx.dialect()))
+                if (s.startsWith("\\x"))
+                    return convertHexToBytes(s, 1, Integer.MAX_VALUE);
+                else
+                    return convertHexToBytes(s);
+
+            // [#12134] MariaDB encodes binary data as text (?)
+            else if (ENCODE_BINARY_AS_TEXT.contains(ctx.dialect()))
+                return s;
+
+            // [#12134] MySQL encodes binary data as prefixed base64
+            else if (s.startsWith("base64:type15:"))
+                return Base64.getDecoder().decode(s.substring(14));
+            else
+                return Base64.getDecoder().decode(s);
+        }
+        else
+            return Base64.getDecoder().decode(s);
+    }
+
     private static final List<Object> patchRecord(DSLContext ctx, boolean multiset, Fields result, List<Object> record) {
         for (int i = 0; i < result.fields().length; i++) {
             Field<?> field = result.field(i);
 
             // [#8829] LoaderImpl expects binary data to be encoded in base64,
             //         not according to org.jooq.tools.Convert
-            if (field.getType() == byte[].class && record.get(i) instanceof String) {
-                String s = (String) record.get(i);
-
-                if (multiset) {
-
-                    // [#12134] PostgreSQL encodes binary data as hex
-                    // TODO [#13427] This doesn't work if bytea_output is set to escape
-                    if (ENCODE_BINARY_AS_HEX.contains(ctx.dialect()))
-                        if (s.startsWith("\\x"))
-                            record.set(i, convertHexToBytes(s, 1, Integer.MAX_VALUE));
-                        else
-                            record.set(i, convertHexToBytes(s));
-
-                    // [#12134] MariaDB encodes binary data as text (?)
-                    else if (ENCODE_BINARY_AS_TEXT.contains(ctx.dialect()))
-                        record.set(i, s);
-
-                    // [#12134] MySQL encodes binary data as prefixed base64
-                    else if (s.startsWith("base64:type15:"))
-                        record.set(i, Base64.getDecoder().decode(s.substring(14)));
-                    else
-                        record.set(i, Base64.getDecoder().decode(s));
-                }
-                else
-                    record.set(i, Base64.getDecoder().decode(s));
-            }
+            if (field.getType() == byte[].class && record.get(i) instanceof String s)
+                record.set(i, binary(ctx, multiset, s));
 
             // [#12155] Recurse for nested data types
             else if (multiset && field.getDataType().isMultiset())
@@ -205,4 +205,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Left.class, $string(), $length());
+    }
 }
@@ -279,4 +279,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Like.class, $value(), $pattern(), $escape());
+    }
 }
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package org.jooq.impl;
+
+import static org.jooq.impl.CopyLoaderBulkStrategy.sqlException;
+import static org.jooq.tools.jdbc.JDBCUtils.safeClose;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.tools.reflect.Reflect;
+import org.jooq.tools.reflect.ReflectException;
+
+/**
+ * A {@link org.jooq.LoaderBulkStrategy} using MySQL's
+ * <code>LOAD DATA LOCAL INFILE</code> statement.
+ * <p>
+ * Rows are streamed to the MySQL JDBC driver's
+ * <code>Statement.setLocalInfileInputStream(InputStream)</code> method, which
+ * is accessed reflectively to avoid a dependency on the driver. The driver
+ * and the server must allow loading local files.
+ *
+ * @author Lukas Eder
+ */
+final class LoadDataLoaderBulkStrategy extends AbstractLoaderBulkStrategy {
+
+    static final LoadDataLoaderBulkStrategy INSTANCE = new LoadDataLoaderBulkStrategy();
+
+    @Override
+    public final boolean supports(LoaderBulkContext ctx) throws SQLException {
+        if (!supportedTypes(ctx.fields()))
+            return false;
+
+        Statement s = ctx.connection().createStatement();
+
+        try {
+            Reflect.on(s.unwrap(Statement.class)).type().getMethod("setLocalInfileInputStream", InputStream.class);
+            return true;
+        }
+        catch (NoSuchMethodException e) {
+            return false;
+        }
+        finally {
+            safeClose(s);
+        }
+    }
+
+    @Override
+    public final long load(LoaderBulkContext ctx) throws SQLException {
+        DSLContext dsl = ctx.dsl();
+        List<Field<?>> fields = ctx.fields();
+        StringBuilder sql = new StringBuilder("load data local infile 'stream' into table ")
+            .append(dsl.render(ctx.table()))
+            .append(" character set utf8mb4")
+            .append(" fields terminated by ',' optionally enclosed by '\"' escaped by '\\\\'")
+            .append(" lines terminated by '\\n' (");
+        StringBuilder set = new StringBuilder();
+
+        for (int i = 0; i < fields.size(); i++) {
+            Field<?> field = fields.get(i);
+
+            if (i > 0)
+                sql.append(", ");
+
+            // Binary data is transferred in hex format, and decoded on the server
+            if (field.getConverter().fromType() == byte[].class) {
+                sql.append("@v").append(i);
+                set.append(set.length() == 0 ? " set " : ", ")
+                   .append(dsl.render(field.getUnqualifiedName()))
+                   .append(" = unhex(@v").append(i).append(')');
+            }
+            else
+                sql.append(dsl.render(field.getUnqualifiedName()));
+        }
+
+        sql.append(')').append(set);
+        Statement s = ctx.connection().createStatement();
+
+        try {
+            Reflect.on(s.unwrap(Statement.class)).call("setLocalInfileInputStream", inputStream(ctx));
+            return s.executeLargeUpdate(sql.toString());
+        }
+        catch (ReflectException e) {
+            throw sqlException(e);
+        }
+        finally {
+            safeClose(s);
+        }
+    }
+
+    @Override
+    final void append(StringBuilder sb, List<Field<?>> fields, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0)
+                sb.append(',');
+
+            if (row[i] == null)
+                sb.append("\\N");
+            else if (row[i] instanceof byte[] b)
+                sb.append(HexFormat.of().formatHex(b));
+            else if (row[i] instanceof Boolean b)
+                sb.append(b ? '1' : '0');
+            else
+                sb.append('"').append(row[i].toString()
+                    .replace("\\", "\\\\")
+                    .replace("\"", "\\\"")
+                    .replace("\n", "\\n")
+                    .replace("\r", "\\r")
+                    .replace("\0", "\\0")
+                ).append('"');
+        }
+
+        sb.append('\n');
+    }
+}
@@ -59,12 +59,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.jooq.BatchBindStep;
@@ -77,6 +88,8 @@ import org.jooq.InsertQuery;
 import org.jooq.Loader;
 import org.jooq.LoaderCSVOptionsStep;
 import org.jooq.LoaderCSVStep;
+import org.jooq.LoaderBulkStrategy;
+import org.jooq.LoaderBulkStrategy.LoaderBulkContext;
 import org.jooq.LoaderContext;
 import org.jooq.LoaderError;
 import org.jooq.LoaderFieldMapper;
@@ -159,6 +172,9 @@ final class LoaderImpl<R extends Record> implements
     private int                          batchAfter                       = 1;
     private int                          bulk                             = BULK_NONE;
     private int                          bulkAfter                        = 1;
+    private LoaderBulkStrategy           bulkStrategy;
+    private int                          parallelism                      = 1;
+    private int                          pipeline                         = 0;
     private int                          content                          = CONTENT_CSV;
     private Source                       input;
     private Iterator<? extends Object[]> arrays;
@@ -174,6 +190,7 @@ final class LoaderImpl<R extends Record> implements
     private LoaderFieldMapper            fieldMapper;
     private boolean                      fieldsCorresponding;
     private BitSet                       primaryKey;
+    private CSVByteReader                partial;
 
     // Result data
     // -----------
@@ -298,6 +315,29 @@ final class LoaderImpl<R extends Record> implements
         return this;
     }
 
+    @Override
+    public final LoaderImpl<R> bulkNative() {
+        return bulkStrategy(DefaultLoaderBulkStrategy.INSTANCE);
+    }
+
+    @Override
+    public final LoaderImpl<R> bulkStrategy(LoaderBulkStrategy strategy) {
+        bulkStrategy = strategy;
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> parallelism(int degree) {
+        parallelism = degree;
+        return this;
+    }
+
+    @Override
+    public final LoaderImpl<R> pipeline(int bufferSize) {
+        pipeline = bufferSize;
+        return this;
+    }
+
     @Override
     public final LoaderRowsStep<R> loadArrays(Object[]... a) {
         return loadArrays(Arrays.asList(a));
@@ -679,6 +719,10 @@ final class LoaderImpl<R extends Record> implements
     private final void checkFlags() {
         if (bulk != BULK_NONE && onDuplicate != ON_DUPLICATE_KEY_ERROR)
             throw new LoaderConfigurationException("Cannot apply bulk loading with onDuplicateKey flags. Turn off either flag.");
+        if (bulkStrategy != null && onDuplicate != ON_DUPLICATE_KEY_ERROR)
+            throw new LoaderConfigurationException("Cannot apply a bulk strategy with onDuplicateKey flags. Turn off either flag.");
+        if (parallelism > 1 && (bulk == BULK_ALL || batch == BATCH_ALL))
+            throw new LoaderConfigurationException("Cannot apply parallel loading with bulkAll() or batchAll(). Use bulkAfter() or batchAfter() instead.");
     }
 
     private final void executeJSON() {
@@ -686,20 +730,84 @@ final class LoaderImpl<R extends Record> implements
 
         try {
             reader = input.reader();
-            Result<Record> r = new JSONReader<>(configuration.dsl(), null, null, false).read(reader);
-            source = r.fields();
 
-            // The current json format is not designed for streaming. Thats why
-            // all records are loaded at once.
-            List<Object[]> allRecords = Arrays.asList(r.intoArrays());
-            executeSQL(allRecords.iterator());
+            // Records are read one at a time. The source fields are known
+            // once the first record has been read.
+            JSONReader<Record>.Records records = new JSONReader<>(configuration.dsl(), null, null, false).new Records(reader);
+            executeSQL(Tools.iterator(records, r -> {
+                if (source == null)
+                    source = records.fields();
+
+                return r.intoArray();
+            }));
+        }
+        finally {
+            safeClose(reader);
+        }
+    }
+
+    private final void executeCSV() throws IOException {
+        Charset charset = input.charset();
+
+        if (charset != null && CSVByteReader.supports(charset, separator, quote))
+            executeCSVBytes(charset);
+        else
+            executeCSVChars();
+    }
+
+    /**
+     * Parse binary sources on bytes, decoding only values that are loaded.
+     */
+    private final void executeCSVBytes(Charset charset) throws IOException {
+        CSVByteReader reader = null;
+
+        try {
+            reader = new CSVByteReader(input.channel(), charset, separator, quote, ignoreRows == 1 ? 0 : ignoreRows);
+
+            if (ignoreRows == 1)
+                source = Tools.fieldsByName(reader.readNext());
+
+            BitSet columns = columns();
+            if (columns != null)
+                partial = reader;
+
+            executeSQL(reader.columns(columns));
         }
         finally {
             safeClose(reader);
         }
     }
 
-    private final void executeCSV() {
+    /**
+     * The indexes of source columns that are loaded, or <code>null</code> if
+     * they're not known before loading, or if all columns must be decoded.
+     */
+    private final BitSet columns() {
+
+        // Listeners may access any source column, and rows that are read ahead
+        // of their execution cannot be decoded again for LoaderError.row()
+        if (onRowStart != null || onRowEnd != null || parallelism > 1 || pipeline > 0 || bulkStrategy != null)
+            return null;
+
+        BitSet result = new BitSet();
+
+        if (fields != null) {
+            for (int i = 0; i < fields.length; i++)
+                if (fields[i] != null)
+                    result.set(i);
+        }
+        else if (fieldsCorresponding && fieldMapper == null && source != null) {
+            for (int i = 0; i < source.length; i++)
+                if (table.field(source[i]) != null)
+                    result.set(i);
+        }
+        else
+            return null;
+
+        return result;
+    }
+
+    private final void executeCSVChars() {
         CSVReader reader = null;
 
         try {
@@ -760,25 +868,384 @@ final class LoaderImpl<R extends Record> implements
     }
 
     private final void executeSQL(final Iterator<? extends Object[]> iterator) {
-        configuration.dsl().connection(connection -> {
-            Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+        if (pipeline > 0) {
+            try (Pipeline p = new Pipeline(iterator)) {
+                executeSQL0(p);
+            }
+        }
+        else
+            executeSQL0(iterator);
+    }
 
-            if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
-                executeSQL(iterator, c.dsl());
+    private final void executeSQL0(final Iterator<? extends Object[]> iterator) {
+        if (parallelism > 1)
+            executeParallel(iterator);
+        else
+            configuration.dsl().connection(connection -> executeSQL(connection, ctx -> executeSQL(iterator, ctx)));
+    }
+
+    /**
+     * An {@link Iterator} that reads and converts rows on separate threads,
+     * ahead of their execution.
+     * <p>
+     * The source is read by a parse stage, whose rows are prepared and
+     * converted to the target field types by a convert stage. The stages are
+     * connected by bounded queues, which block stages that run too far ahead.
+     * Rows and errors are consumed in source order.
+     */
+    private final class Pipeline implements Iterator<Object[]>, AutoCloseable {
+        final BlockingQueue<Object>   parsed    = new ArrayBlockingQueue<>(pipeline);
+        final BlockingQueue<Object>   converted = new ArrayBlockingQueue<>(pipeline);
+        final AtomicBoolean           closed    = new AtomicBoolean();
+        final CompletableFuture<Void> parse;
+        final CompletableFuture<Void> convert;
+        Object                        next;
+
+        Pipeline(Iterator<? extends Object[]> iterator) {
+            Executor executor = configuration.executorProvider().provide();
+
+            this.parse = CompletableFuture.runAsync(() -> stage(parsed, () -> {
+                Object[] row;
+
+                while (iterator.hasNext() && ((row = iterator.next()) != null))
+                    if (!put(parsed, row))
+                        return;
+            }), executor);
+
+            this.convert = CompletableFuture.runAsync(() -> stage(converted, () -> {
+                Object row;
+
+                while ((row = take(parsed)) instanceof Object[] r)
+                    if (!put(converted, convert(prepare(r))))
+                        return;
+
+                // Forward errors of the parse stage
+                if (row instanceof RuntimeException e)
+                    throw e;
+                else if (row instanceof Error e)
+                    throw e;
+            }), executor);
+        }
+
+        private final void stage(BlockingQueue<Object> out, Runnable stage) {
+            try {
+                stage.run();
+                put(out, END);
+            }
+            catch (RuntimeException | Error e) {
+                put(out, e);
+            }
+        }
+
+        private final boolean put(BlockingQueue<Object> queue, Object o) {
+            try {
+                while (!queue.offer(o, 100, TimeUnit.MILLISECONDS))
+                    if (closed.get())
+                        return false;
+
+                return !closed.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             }
+        }
 
-            else {
-                try (CachedPSListener cache = new CachedPSListener()) {
-                    executeSQL(iterator, c
-                        .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
-                        .dsl()
-                    );
+        private final Object take(BlockingQueue<Object> queue) {
+            try {
+                Object o;
+
+                while ((o = queue.poll(100, TimeUnit.MILLISECONDS)) == null)
+                    if (closed.get())
+                        return END;
+
+                return o;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessException("Interrupted while loading rows", e);
+            }
+        }
+
+        @Override
+        public final boolean hasNext() {
+            if (next == null)
+                next = take(converted);
+
+            if (next instanceof RuntimeException e)
+                throw e;
+            else if (next instanceof Error e)
+                throw e;
+
+            return next != END;
+        }
+
+        @Override
+        public final Object[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            Object[] result = (Object[]) next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public final void close() {
+            closed.set(true);
+
+            // Wait for the stages to stop using the source
+            CompletableFuture.allOf(parse, convert).handle((v, e) -> null).join();
+        }
+    }
+
+    private static final Object END = new Object();
+
+    private final void executeSQL(Connection connection, Consumer<? super DSLContext> consumer) throws SQLException {
+        Configuration c = configuration.derive(new DefaultConnectionProvider(connection));
+
+        if (FALSE.equals(c.settings().isCachePreparedStatementInLoader())) {
+            consumer.accept(c.dsl());
+        }
+
+        else {
+            try (CachedPSListener cache = new CachedPSListener()) {
+                consumer.accept(c
+                    .derive(combine(new DefaultExecuteListenerProvider(cache), c.executeListenerProviders()))
+                    .dsl()
+                );
+            }
+        }
+    }
+
+    private final void executeParallel(Iterator<? extends Object[]> iterator) {
+        int size = bulkAfter * batchAfter * (commit == COMMIT_AFTER ? commitAfter : 1);
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(parallelism);
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<Worker> workers = new ArrayList<>(parallelism);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism);
+        boolean committed = false;
+
+        try {
+            try {
+                List<Object[]> rows = new ArrayList<>(size);
+                int offset = 0;
+                Object[] row;
+
+                while (!aborted.get() && iterator.hasNext() && ((row = iterator.next()) != null)) {
+
+                    // [#5145] Initialise fields before sharing them with workers
+                    if (fields == null)
+                        fields0(row);
+
+                    rows.add(row);
+
+                    if (rows.size() == size || !iterator.hasNext()) {
+                        if (workers.isEmpty()) {
+
+                            // Connections are acquired on the calling thread,
+                            // which is responsible for releasing them
+                            for (int i = 0; i < parallelism; i++)
+                                workers.add(new Worker(queue, aborted, configuration.connectionProvider().acquire()));
+
+                            Executor executor = configuration.executorProvider().provide();
+                            for (Worker worker : workers)
+                                futures.add(CompletableFuture.runAsync(worker, executor));
+                        }
+
+                        offer(queue, new Chunk(offset, rows), aborted);
+                        offset += rows.size();
+                        rows = new ArrayList<>(size);
+                    }
+                }
+            }
+            catch (RuntimeException | Error e) {
+                aborted.set(true);
+                throw e;
+            }
+            finally {
+                try {
+                    offer(queue, Chunk.END, aborted);
+                }
+
+                // Workers must not use their connections anymore, once they
+                // are committed, rolled back, or released
+                finally {
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((v, e) -> null).join();
+                }
+            }
+
+            try {
+                for (CompletableFuture<Void> future : futures)
+                    future.join();
+            }
+            catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException r)
+                    throw r;
+                else
+                    throw e;
+            }
+
+            for (Worker worker : workers) {
+                processed += worker.processed;
+                executed += worker.loader.executed;
+                ignored += worker.loader.ignored;
+                stored += worker.loader.stored;
+                errors.addAll(worker.loader.errors);
+            }
+
+            errors.sort(Comparator.comparingInt(LoaderError::rowIndex));
+
+            // Commit all workers' connections in COMMIT_ALL mode
+            if (commit == COMMIT_ALL && errors.isEmpty()) {
+                try {
+                    for (Worker worker : workers)
+                        worker.connection.commit();
+
+                    committed = true;
+                }
+                catch (SQLException e) {
+                    errors.add(new LoaderErrorImpl(new DataAccessException("Cannot commit loaded rows", e), null, processed - 1, null));
                 }
             }
-        });
+        }
+        finally {
+            try {
+
+                // In COMMIT_ALL mode, roll back all workers' connections on
+                // any error, including exceptions from the source or workers
+                if (commit == COMMIT_ALL && !committed) {
+                    stored = 0;
+
+                    for (Worker worker : workers) {
+                        try {
+                            worker.connection.rollback();
+                        }
+                        catch (SQLException e) {
+                            errors.add(new LoaderErrorImpl(new DataAccessException("Cannot rollback loaded rows", e), null, processed - 1, null));
+                        }
+                    }
+                }
+            }
+            finally {
+                for (Worker worker : workers)
+                    configuration.connectionProvider().release(worker.connection);
+            }
+        }
+    }
+
+    private static final void offer(BlockingQueue<Chunk> queue, Chunk chunk, AtomicBoolean aborted) {
+        try {
+            while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS))
+                if (aborted.get())
+                    return;
+        }
+        catch (InterruptedException e) {
+            aborted.set(true);
+            Thread.currentThread().interrupt();
+            throw new DataAccessException("Interrupted while loading rows", e);
+        }
+    }
+
+    /**
+     * A chunk of consecutive rows starting at a given row index.
+     */
+    private static final record Chunk(int offset, List<Object[]> rows) {
+        static final Chunk END = new Chunk(-1, null);
+    }
+
+    /**
+     * A worker loading chunks on its own connection, using its own copy of the
+     * loader to count its outcome.
+     */
+    private final class Worker implements Runnable {
+        final BlockingQueue<Chunk> queue;
+        final AtomicBoolean        aborted;
+        final Connection           connection;
+        final LoaderImpl<R>        loader;
+        int                        processed;
+
+        Worker(BlockingQueue<Chunk> queue, AtomicBoolean aborted, Connection connection) {
+            this.queue = queue;
+            this.aborted = aborted;
+            this.connection = connection;
+            this.loader = copy();
+        }
+
+        @Override
+        public final void run() {
+            try {
+                executeSQL(connection, ctx -> {
+                    try {
+                        Chunk chunk;
+
+                        // Poll, rather than take, as the END chunk may not be
+                        // offered when loading is aborted
+                        while (!aborted.get()) {
+                            if ((chunk = queue.poll(100, TimeUnit.MILLISECONDS)) == null)
+                                continue;
+
+                            // Let the other workers see the end, too
+                            if (chunk == Chunk.END) {
+                                queue.offer(Chunk.END);
+                                break;
+                            }
+
+                            // Row indexes, and bulk, batch, and commit
+                            // boundaries are aligned with the whole source
+                            loader.processed = chunk.offset;
+                            loader.executeSQL(chunk.rows.iterator(), ctx);
+                            processed += loader.processed - chunk.offset;
+
+                            if (onError == ON_ERROR_ABORT && !loader.errors.isEmpty())
+                                aborted.set(true);
+                        }
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new DataAccessException("Interrupted while loading rows", e);
+                    }
+                });
+            }
+            catch (SQLException e) {
+                aborted.set(true);
+                throw new DataAccessException("Error while loading rows", e);
+            }
+            catch (RuntimeException | Error e) {
+                aborted.set(true);
+                throw e;
+            }
+        }
+    }
+
+    private final LoaderImpl<R> copy() {
+        LoaderImpl<R> result = new LoaderImpl<>(configuration, table);
+
+        result.onDuplicate = onDuplicate;
+        result.onError = onError;
+
+        // COMMIT_ALL is handled after all workers have completed
+        result.commit = commit == COMMIT_ALL ? COMMIT_NONE : commit;
+        result.commitAfter = commitAfter;
+        result.batch = batch;
+        result.batchAfter = batchAfter;
+        result.bulk = bulk;
+        result.bulkAfter = bulkAfter;
+        result.bulkStrategy = bulkStrategy;
+        result.nullString = nullString;
+        result.source = source;
+        result.fields = fields;
+        result.primaryKey = primaryKey;
+        result.onRowStart = onRowStart;
+        result.onRowEnd = onRowEnd;
+
+        return result;
     }
 
     private final void executeSQL(Iterator<? extends Object[]> iterator, DSLContext ctx) {
+        if (bulkStrategy != null && (iterator = executeBulk(iterator, ctx)) == null)
+            return;
+
         Object[] row = null;
         BatchBindStep bind = null;
         InsertQuery<R> insert = null;
@@ -787,30 +1254,7 @@ final class LoaderImpl<R extends Record> implements
         execution: {
             rows: while (iterator.hasNext() && ((row = iterator.next()) != null)) {
                 try {
-
-                    // [#5858] Work with non String[] types from here on (e.g. after CSV import)
-                    if (row.getClass() != Object[].class)
-                        row = Arrays.copyOf(row, row.length, Object[].class);
-
-                    // [#5145][#8755] Lazy initialisation of fields from the first row
-                    // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
-                    if (fields == null)
-                        fields0(row);
-
-                    // [#1627] [#5858] Handle NULL values and base64 encodings
-                    // [#2741]         TODO: This logic will be externalised in new SPI
-                    // [#8829]         JSON binary data has already been decoded at this point
-                    for (int i = 0; i < row.length; i++)
-                        if (StringUtils.equals(nullString, row[i]))
-                            row[i] = null;
-                        else if (i < fields.length && fields[i] != null)
-                            if (fields[i].getType() == byte[].class && row[i] instanceof String)
-                                row[i] = Base64.getDecoder().decode((String) row[i]);
-
-                    // [#10583] Pad row to the fields length
-                    if (row.length < fields.length)
-                        row = Arrays.copyOf(row, fields.length);
-
+                    row = prepare(row);
                     rowCtx.row(row);
                     if (onRowStart != null) {
                         onRowStart.row(rowCtx);
@@ -901,10 +1345,10 @@ final class LoaderImpl<R extends Record> implements
 
                         if (commit == COMMIT_AFTER)
                             if ((processed % (bulkAfter * batchAfter) == 0) && ((processed / (bulkAfter * batchAfter)) % commitAfter == 0))
-                                commit();
+                                commit(ctx);
                     }
                     catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                        errors.add(new LoaderErrorImpl(e, errorRow(row), processed - 1, insert));
                         ignored += unexecuted;
                         unexecuted = 0;
 
@@ -934,7 +1378,7 @@ final class LoaderImpl<R extends Record> implements
                     unexecuted = 0;
                 }
                 catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
+                    errors.add(new LoaderErrorImpl(e, errorRow(row), processed - 1, insert));
                     ignored += unexecuted;
                     unexecuted = 0;
                 }
@@ -942,7 +1386,7 @@ final class LoaderImpl<R extends Record> implements
 
             // Commit remaining elements in COMMIT_AFTER mode
             if (commit == COMMIT_AFTER && uncommitted != 0)
-                commit();
+                commit(ctx);
 
             if (onError == ON_ERROR_ABORT)
                 break execution;
@@ -955,24 +1399,238 @@ final class LoaderImpl<R extends Record> implements
             if (commit == COMMIT_ALL) {
                 if (!errors.isEmpty()) {
                     stored = 0;
-                    rollback();
+                    rollback(ctx);
                 }
                 else
-                    commit();
+                    commit(ctx);
+            }
+        }
+        catch (DataAccessException e) {
+            errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+        }
+    }
+
+    /**
+     * Load rows using the {@link LoaderBulkStrategy}, if it supports loading
+     * them.
+     *
+     * @return The rows to load using <code>INSERT</code> statements instead,
+     *         or <code>null</code> if the rows have been loaded.
+     */
+    private final Iterator<? extends Object[]> executeBulk(Iterator<? extends Object[]> iterator, DSLContext ctx) {
+        Object[] first;
+
+        // [#5145] The target fields may be known only after the first row
+        if (!iterator.hasNext() || (first = iterator.next()) == null)
+            return Collections.emptyIterator();
+
+        BulkContext bulkCtx = new BulkContext(ctx, prepare(first), iterator);
+        int before = processed;
+
+        try {
+            if (!bulkStrategy.supports(bulkCtx))
+                return bulkCtx.unconsumed();
+
+            long count = bulkStrategy.load(bulkCtx);
+
+            stored += (int) count;
+            ignored += Math.max(0, processed - before - (int) count);
+            executed++;
+        }
+        catch (SQLException e) {
+            errors.add(new LoaderErrorImpl(new DataAccessException("Error while bulk loading rows", e), bulkCtx.row, processed - 1, null));
+            ignored += processed - before;
+        }
+        catch (DataAccessException e) {
+            errors.add(new LoaderErrorImpl(e, bulkCtx.row, processed - 1, null));
+            ignored += processed - before;
+        }
+
+        try {
+            if (commit == COMMIT_ALL && !errors.isEmpty()) {
+                stored = 0;
+                rollback(ctx);
             }
+            else if (commit != COMMIT_NONE)
+                commit(ctx);
         }
         catch (DataAccessException e) {
             errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
         }
+
+        return null;
+    }
+
+    /**
+     * The {@link LoaderBulkContext} producing prepared, converted rows from a
+     * source, while keeping track of the loader's outcome.
+     */
+    private final class BulkContext implements LoaderBulkContext, Iterator<Object[]> {
+        final DSLContext                   dsl;
+        final Connection                   connection;
+        final Iterator<? extends Object[]> iterator;
+        final List<Field<?>>               targets;
+        final int[]                        indexes;
+        Object[]                           next;
+        Object[]                           row;
+
+        BulkContext(DSLContext dsl, Object[] first, Iterator<? extends Object[]> iterator) {
+            this.dsl = dsl;
+            this.connection = dsl.connectionResult(c -> c);
+            this.iterator = iterator;
+            this.next = first;
+            this.targets = new ArrayList<>();
+
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i] != null) {
+                    targets.add(fields[i]);
+                    list.add(i);
+                }
+            }
+
+            this.indexes = list.stream().mapToInt(i -> i).toArray();
+        }
+
+        @Override
+        public final DSLContext dsl() {
+            return dsl;
+        }
+
+        @Override
+        public final Connection connection() {
+            return connection;
+        }
+
+        @Override
+        public final Table<?> table() {
+            return table;
+        }
+
+        @Override
+        public final List<Field<?>> fields() {
+            return Collections.unmodifiableList(targets);
+        }
+
+        @Override
+        public final Iterator<Object[]> rows() {
+            return this;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            if (next == null && iterator.hasNext())
+                next = iterator.next();
+
+            return next != null;
+        }
+
+        @Override
+        public final Object[] next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            row = prepare(next);
+            next = null;
+
+            rowCtx.row(row);
+            if (onRowStart != null) {
+                onRowStart.row(rowCtx);
+                row = rowCtx.row();
+            }
+
+            processed++;
+            Object[] result = new Object[indexes.length];
+
+            for (int i = 0; i < indexes.length; i++)
+                if (indexes[i] < row.length)
+                    result[i] = fields[indexes[i]].getDataType().convert(row[indexes[i]]);
+
+            if (onRowEnd != null)
+                onRowEnd.row(rowCtx);
+
+            return result;
+        }
+
+        /**
+         * The rows that haven't been consumed by the strategy.
+         */
+        final Iterator<Object[]> unconsumed() {
+            return new Iterator<Object[]>() {
+                @Override
+                public final boolean hasNext() {
+                    return BulkContext.this.hasNext();
+                }
+
+                @Override
+                public final Object[] next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    Object[] result = BulkContext.this.next;
+                    BulkContext.this.next = null;
+                    return result;
+                }
+            };
+        }
+    }
+
+    /**
+     * The row to report in a {@link LoaderError}, with all its values, even if
+     * only the loaded values of the current row were decoded.
+     */
+    private final Object[] errorRow(Object[] row) {
+        return partial != null ? prepare(partial.decodeLast()) : row;
+    }
+
+    private final Object[] prepare(Object[] row) {
+
+        // [#5858] Work with non String[] types from here on (e.g. after CSV import)
+        if (row.getClass() != Object[].class)
+            row = Arrays.copyOf(row, row.length, Object[].class);
+
+        // [#5145][#8755] Lazy initialisation of fields from the first row
+        // in case fields(LoaderFieldMapper) or fieldsCorresponding() was used
+        if (fields == null)
+            fields0(row);
+
+        // [#1627] [#5858] Handle NULL values and base64 encodings
+        // [#2741]         TODO: This logic will be externalised in new SPI
+        // [#8829]         JSON binary data has already been decoded at this point
+        for (int i = 0; i < row.length; i++)
+            if (StringUtils.equals(nullString, row[i]))
+                row[i] = null;
+            else if (i < fields.length && fields[i] != null)
+                if (fields[i].getType() == byte[].class && row[i] instanceof String)
+                    row[i] = Base64.getDecoder().decode((String) row[i]);
+
+        // [#10583] Pad row to the fields length
+        if (row.length < fields.length)
+            row = Arrays.copyOf(row, fields.length);
+
+        return row;
+    }
+
+    /**
+     * Convert a prepared row to the target field types ahead of execution,
+     * unless a {@link LoaderRowListener} expects to see unconverted values.
+     */
+    private final Object[] convert(Object[] row) {
+        if (onRowStart == null)
+            for (int i = 0; i < row.length; i++)
+                if (i < fields.length && fields[i] != null)
+                    row[i] = fields[i].getDataType().convert(row[i]);
+
+        return row;
     }
 
-    private final void commit() {
-        configuration.dsl().connection(Connection::commit);
+    private final void commit(DSLContext ctx) {
+        ctx.connection(Connection::commit);
         uncommitted = 0;
     }
 
-    private final void rollback() {
-        configuration.dsl().connection(Connection::rollback);
+    private final void rollback(DSLContext ctx) {
+        ctx.connection(Connection::rollback);
     }
 
     /**
@@ -224,4 +224,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Log.class, $value(), $base());
+    }
 }
@@ -245,4 +245,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Lpad.class, $string(), $length(), $character());
+    }
 }
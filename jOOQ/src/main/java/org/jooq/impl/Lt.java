@@ -162,4 +162,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Lt.class, $arg1(), $arg2());
+    }
 }
@@ -198,4 +198,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Md5.class, $string());
+    }
 }
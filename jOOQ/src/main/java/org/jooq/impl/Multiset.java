@@ -364,7 +364,7 @@ final class Multiset<R extends Record> extends AbstractField<Result<R>> implemen
     }
 
     // [#12045] Only simple selects can profit from the simplified MULTISET emulation
-    private static final boolean isSimple(Select<?> s) {
+    static final boolean isSimple(Select<?> s) {
         return s.$groupBy().isEmpty()
             && s.$having() == null
             && s.$window().isEmpty()
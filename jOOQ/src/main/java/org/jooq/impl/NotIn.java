@@ -165,4 +165,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.NotIn.class, $arg1(), $arg2());
+    }
 }
@@ -192,4 +192,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.NotLikeIgnoreCase.class, $value(), $pattern(), $escape());
+    }
 }
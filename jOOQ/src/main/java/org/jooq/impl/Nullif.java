@@ -206,4 +206,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Nullif.class, $value(), $other());
+    }
 }
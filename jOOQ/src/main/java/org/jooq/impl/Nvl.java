@@ -283,4 +283,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Nvl.class, $value(), $defaultValue());
+    }
 }
@@ -195,4 +195,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.OctetLength.class, $string());
+    }
 }
@@ -273,4 +273,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Overlay.class, $in(), $placing(), $startIndex(), $length());
+    }
 }
@@ -37,7 +37,6 @@
  */
 package org.jooq.impl;
 
-import static java.util.Collections.emptyList;
 import static org.jooq.conf.SettingsTools.getParamType;
 import static org.jooq.impl.CacheType.CACHE_PARSING_CONNECTION;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
@@ -48,13 +47,13 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import org.jooq.Configuration;
 import org.jooq.DSLContext;
+import org.jooq.DataType;
 import org.jooq.Param;
 import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
@@ -68,9 +67,16 @@ import org.jooq.tools.jdbc.DefaultConnection;
  */
 final class ParsingConnection extends DefaultConnection {
 
-    private static final JooqLogger log = JooqLogger.getLogger(ParsingConnection.class);
+    private static final JooqLogger                          log         = JooqLogger.getLogger(ParsingConnection.class);
 
-    final Configuration             configuration;
+    /**
+     * The input bind values of the translation in progress on the current
+     * thread, and the bind values converted from them, and their indexes, by
+     * identity.
+     */
+    private static final ThreadLocal<Map<Param<?>, Integer>> TRANSLATION = new ThreadLocal<>();
+
+    final Configuration                                      configuration;
 
     ParsingConnection(Configuration configuration) {
         super(configuration.connectionProvider().acquire());
@@ -84,38 +90,76 @@ final class ParsingConnection extends DefaultConnection {
         this.configuration = configuration;
     }
 
+    /**
+     * A cached translation, which doesn't reference any bind values, but only
+     * their types and their positions in the input.
+     */
     static final class CacheValue {
-        final String                      output;
-        final int                         bindSize;
-        final Map<Integer, List<Integer>> bindMapping;
-
-        CacheValue(Configuration configuration, String input, Param<?>[] bindValues) {
-            DSLContext ctx = configuration.dsl();
-            DefaultRenderContext render = (DefaultRenderContext) ctx.renderContext();
-            render.paramType(configuration.settings().getParamType()).visit(ctx.parser().parseQuery(input, (Object[]) bindValues));
-
-            output = render.render();
-            bindSize = render.bindValues().size();
-            bindMapping = new HashMap<>();
-
-            // TODO: We shouldn't rely on identity for these reasons:
-            // - Copies are possible
-            // - Wrappings are possible
-            // - Conversions are possible
-            // Ideally, we should be able to maintain and extract the map directly in the DefaultRenderContext
-            // TODO: If anything goes wrong (probably because of the above), the cache must be invalid, and we must re-parse and re-render the query every time
+        final String        output;
+        final int[]         bindMapping;
+        final DataType<?>[] bindTypes;
+        final DataType<?>[] conversions;
+        final boolean       inlined;
+        final boolean       valid;
+
+        CacheValue(Settings settings, Param<?>[] input, Rendered rendered, int[] bindMapping) {
+            this.output = rendered.sql;
+            this.bindMapping = bindMapping;
+            this.bindTypes = map(input, b -> b == null ? null : b.getDataType(), DataType[]::new);
+            this.conversions = new DataType[bindMapping.length];
+            this.inlined = inlined(settings);
+            this.valid = valid(bindMapping);
+
+            // Remember conversions that were applied to the input bind values
+            // while translating the query.
+            if (valid) {
+                for (int j = 0; j < bindMapping.length; j++) {
+                    Param<?> r = rendered.bindValues.get(j);
+                    Param<?> i = input[bindMapping[j]];
+
+                    if (r != i && !r.getDataType().equals(i.getDataType()))
+                        conversions[j] = r.getDataType();
+                }
+            }
+        }
+
+        private static final boolean valid(int[] bindMapping) {
+            for (int i : bindMapping)
+                if (i < 0)
+                    return false;
+
+            return true;
+        }
+
+        /**
+         * Whether this translation can be reused for another set of bind
+         * values, mapping the bind values only, without parsing and rendering
+         * the SQL again.
+         */
+        boolean reusable(Param<?>[] bindValues) {
+            if (inlined || !valid || bindValues.length != bindTypes.length)
+                return false;
+
             for (int i = 0; i < bindValues.length; i++)
-                for (int j = 0; j < render.bindValues().size(); j++)
-                    if (bindValues[i] == render.bindValues().get(j))
-                        bindMapping.computeIfAbsent(i, x -> new ArrayList<>()).add(j);
+                if (bindValues[i] == null || !bindValues[i].getDataType().equals(bindTypes[i]))
+                    return false;
+
+            return true;
         }
 
         Rendered rendered(Param<?>... bindValues) {
-            Param<?>[] binds = new Param[bindSize];
+            Param<?>[] binds = new Param[bindMapping.length];
 
-            for (int i = 0; i < bindValues.length; i++)
-                for (int mapped : bindMapping.getOrDefault(i, emptyList()))
-                    binds[mapped] = bindValues[i];
+            for (int j = 0; j < bindMapping.length; j++) {
+                Param<?> bind = bindValues[bindMapping[j]];
+
+                // Repeat conversions that were applied to the input bind value
+                // while translating the query.
+                if (conversions[j] != null && bind instanceof Val<?> v && !conversions[j].equals(v.getDataType()))
+                    binds[j] = v.convertTo0(conversions[j]);
+                else
+                    binds[j] = bind;
+            }
 
             return new Rendered(output, new QueryPartList<>(binds), 0);
         }
@@ -126,37 +170,100 @@ final class ParsingConnection extends DefaultConnection {
         }
     }
 
+    /**
+     * A translation of a SQL string with a set of bind values.
+     */
+    private static final record Translation(CacheValue value, Rendered rendered) {}
+
     static final Rendered translate(Configuration configuration, String sql, Param<?>... bindValues) {
-        log.debug("Translating from", sql);
-        Rendered result = null;
+        return translate0(configuration, sql, bindValues).rendered;
+    }
 
-        Supplier<CacheValue> miss = () -> {
-            log.debug("Translation cache miss", sql);
-            return new CacheValue(configuration, sql, bindValues);
-        };
+    private static final Translation translate0(Configuration configuration, String sql, Param<?>... bindValues) {
+        log.debug("Translating from", sql);
 
+        // The rendered bind values of a cache miss are returned to the caller
+        // only, not cached along with the translation.
+        Translation[] miss = { null };
         Settings settings = configuration.settings();
-        if (CACHE_PARSING_CONNECTION.category.predicate.test(settings) && bindValues.length > 0) {
-            switch (getParamType(settings)) {
-                case INLINED:
-                case NAMED_OR_INLINED:
-                    result = miss.get().rendered(bindValues);
-                    break;
-            }
-        }
+        Translation result;
 
-        if (result == null)
-            result = Cache.run(
+        if (CACHE_PARSING_CONNECTION.category.predicate.test(settings) && bindValues.length > 0 && inlined(settings)) {
+            result = translate1(configuration, sql, bindValues);
+        }
+        else {
+            CacheValue value = Cache.run(
                 configuration,
-                miss,
+                () -> (miss[0] = translate1(configuration, sql, bindValues)).value,
                 CACHE_PARSING_CONNECTION,
                 () -> Cache.key(sql, map(nonNull(bindValues), f -> f.getDataType()))
-            ).rendered(bindValues);
+            );
+
+            if (miss[0] != null)
+                result = miss[0];
 
-        log.debug("Translating to", result.sql);
+            // Translations whose bind values cannot be remapped must be repeated
+            else if (!value.valid)
+                result = translate1(configuration, sql, bindValues);
+            else
+                result = new Translation(value, value.rendered(bindValues));
+        }
+
+        log.debug("Translating to", result.rendered.sql);
         return result;
     }
 
+    private static final Translation translate1(Configuration configuration, String sql, Param<?>... bindValues) {
+        log.debug("Translation cache miss", sql);
+
+        Map<Param<?>, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < bindValues.length; i++)
+            indexes.putIfAbsent(bindValues[i], i);
+
+        DSLContext ctx = configuration.dsl();
+        DefaultRenderContext render = (DefaultRenderContext) ctx.renderContext();
+        Map<Param<?>, Integer> previous = TRANSLATION.get();
+        Rendered rendered;
+
+        try {
+            TRANSLATION.set(indexes);
+            render.paramType(configuration.settings().getParamType()).visit(ctx.parser().parseQuery(sql, (Object[]) bindValues));
+            rendered = new Rendered(render.render(), render.bindValues(), 0);
+        }
+        finally {
+            TRANSLATION.set(previous);
+        }
+
+        // If any rendered bind value cannot be traced back to an input
+        // bind value, the translation is valid only for the current input.
+        return new Translation(new CacheValue(configuration.settings(), bindValues, rendered, render.bindOrigins(indexes)), rendered);
+    }
+
+    /**
+     * Trace a conversion of a bind value, if a translation is in progress on
+     * the current thread.
+     */
+    static final void converted(Param<?> from, Param<?> to) {
+        Map<Param<?>, Integer> indexes = TRANSLATION.get();
+
+        if (indexes != null) {
+            Integer index = indexes.get(from);
+
+            if (index != null)
+                indexes.putIfAbsent(to, index);
+        }
+    }
+
+    private static final boolean inlined(Settings settings) {
+        switch (getParamType(settings)) {
+            case INLINED:
+            case NAMED_OR_INLINED:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     private static Param<?>[] nonNull(Param<?>[] bindValues) {
         for (int i = 0; i < bindValues.length; i++)
             if (bindValues[i] == null)
@@ -186,14 +293,23 @@ final class ParsingConnection extends DefaultConnection {
     ) {
         return p -> {
             int size = p.size();
-            Rendered rendered = size == 0 ? translate(configuration, sql) : translate(configuration, sql, p.get(0).toArray(EMPTY_PARAM));
+            Param<?>[] first = size == 0 ? EMPTY_PARAM : p.get(0).toArray(EMPTY_PARAM);
+            Translation translation = translate0(configuration, sql, first);
+            CacheValue value = translation.value;
+            Rendered rendered = translation.rendered;
             PreparedStatement s = prepare.apply(rendered.sql);
 
             for (int i = 0; i < size; i++) {
 
-                // TODO: Can we avoid re-parsing and re-generating the SQL and mapping bind values only?
-                if (i > 0)
-                    rendered = translate(configuration, sql, p.get(i).toArray(EMPTY_PARAM));
+                // Batch rows whose bind values have the same types as the
+                // first row's are only re-mapped, not re-parsed and re-rendered
+                if (i > 0) {
+                    Param<?>[] row = p.get(i).toArray(EMPTY_PARAM);
+
+                    rendered = value.reusable(row)
+                        ? value.rendered(row)
+                        : translate(configuration, sql, row);
+                }
 
                 new DefaultBindContext(configuration, null, s).visit(rendered.bindValues);
 
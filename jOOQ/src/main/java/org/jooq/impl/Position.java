@@ -288,4 +288,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Position.class, $in(), $search(), $startIndex());
+    }
 }
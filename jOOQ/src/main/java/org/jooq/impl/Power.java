@@ -188,4 +188,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Power.class, $base(), $exponent());
+    }
 }
@@ -160,4 +160,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.QualifiedRowid.class, $table());
+    }
 }
@@ -38,7 +38,6 @@
 package org.jooq.impl;
 
 // ...
-import static org.jooq.ContextConverter.scoped;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.impl.Internal.subscriber;
 import static org.jooq.impl.Tools.EMPTY_PARAM;
@@ -81,7 +80,6 @@ import java.util.function.Supplier;
 
 import org.jooq.BindingGetResultSetContext;
 import org.jooq.Configuration;
-import org.jooq.Converter;
 import org.jooq.Cursor;
 import org.jooq.DSLContext;
 import org.jooq.DataType;
@@ -346,8 +344,7 @@ final class R2DBC {
                             ctx.index(i + 1);
                             ctx.field((Field) fields[i]);
                             fields[i].getBinding().get((BindingGetResultSetContext) ctx);
-                            record.values[i] = ctx.value();
-                            record.originals[i] = ctx.value();
+                            record.value(i, ctx.value());
                         }
 
                         return record;
@@ -1236,11 +1233,11 @@ final class R2DBC {
                 if (o == null)
                     return null;
 
-                Converter<Object, T> converter = c.converterProvider().provide((Class<Object>) o.getClass(), uType);
+                ContextConverter<Object, T> converter = Tools.converter(c, (Class<Object>) o.getClass(), uType);
                 if (converter == null)
                     throw new DataTypeException("Cannot convert from " + o.getClass() + " to " + uType + ". Please report an issue here: https://github.com/jOOQ/jOOQ/issues/new. As a workaround, you can implement a ConverterProvider.");
                 else
-                    return scoped(converter).from(o, converterContext(c));
+                    return converter.from(o, converterContext(c));
             }
 
             // ---------------------------------------------------------------------
@@ -219,4 +219,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Radians.class, $degrees());
+    }
 }
@@ -83,6 +83,6 @@ final class RecordImplN extends AbstractRecord implements InternalRecord {
 
     @Override
     public final RowImplN valuesRow() {
-        return new RowImplN(Tools.fieldsArray(values, fields.fields.fields));
+        return new RowImplN(Tools.fieldsArray(intoArray(), fields.fields.fields));
     }
 }
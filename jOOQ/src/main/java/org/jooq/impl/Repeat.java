@@ -240,4 +240,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Repeat.class, $string(), $count());
+    }
 }
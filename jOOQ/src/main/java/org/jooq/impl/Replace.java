@@ -267,4 +267,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Replace.class, $string(), $search(), $replace());
+    }
 }
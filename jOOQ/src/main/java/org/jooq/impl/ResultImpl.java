@@ -55,6 +55,7 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collector;
+import java.util.stream.StreamSupport;
 
 import org.jooq.Attachable;
 import org.jooq.Configuration;
@@ -114,9 +115,13 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     }
 
     ResultImpl(Configuration configuration, AbstractRow fields) {
+        this(configuration, fields, new ArrayList<>());
+    }
+
+    ResultImpl(Configuration configuration, AbstractRow fields, List<R> records) {
         super(configuration, fields);
 
-        this.records = new ArrayList<>();
+        this.records = records;
     }
 
     // -------------------------------------------------------------------------
@@ -125,7 +130,22 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     final List<? extends Attachable> getAttachables() {
-        return records;
+        return records instanceof ColumnarRecords<R> c ? Collections.singletonList(c) : records;
+    }
+
+    @Override
+    final Iterable<R> flyweight() {
+        return records instanceof ColumnarRecords<R> c ? c.flyweight() : this;
+    }
+
+    /**
+     * Collect values from the records of this result, without retaining the
+     * records themselves.
+     */
+    private final <X, A> X collectValues(Collector<? super R, A, X> collector) {
+        return records instanceof ColumnarRecords<R> c
+            ? StreamSupport.stream(c.flyweight().spliterator(), false).collect(collector)
+            : collect(collector);
     }
 
     // -------------------------------------------------------------------------
@@ -149,81 +169,107 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <T> T getValue(int index, Field<T> field) {
-        return get(index).get(field);
+        int fieldIndex;
+
+        if (records instanceof ColumnarRecords<R> c && (fieldIndex = fields.indexOf(field)) >= 0)
+            return (T) c.value(index, fieldIndex);
+        else
+            return get(index).get(field);
     }
 
     @Override
     public final Object getValue(int index, int fieldIndex) {
-        return get(index).get(fieldIndex);
+        if (records instanceof ColumnarRecords<R> c)
+            return c.value(index, fields.fields.safeIndex(fieldIndex));
+        else
+            return get(index).get(fieldIndex);
     }
 
     @Override
     public final Object getValue(int index, String fieldName) {
-        return get(index).get(fieldName);
+        if (records instanceof ColumnarRecords<R> c)
+            return c.value(index, indexOrFail(fields, fieldName));
+        else
+            return get(index).get(fieldName);
     }
 
     @Override
     public final <T> List<T> getValues(Field<T> field) {
-        return collect(intoList(recordType().mapper(field)));
+        if (records instanceof ColumnarRecords<R> c)
+            return (List<T>) c.values(indexOrFail(fields, field));
+        else
+            return collect(intoList(recordType().mapper(field)));
     }
 
     @Override
     public final <U> List<U> getValues(Field<?> field, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(field, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(field, Tools.configuration(this), type)));
     }
 
     @Override
     public final <T, U> List<U> getValues(Field<T> field, Converter<? super T, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(field, converter)));
+        return collectValues(intoList(recordType().mapper(field, converter)));
     }
 
     @Override
     public final List<?> getValues(int fieldIndex) {
-        return collect(intoList(recordType().mapper(fieldIndex)));
+        if (records instanceof ColumnarRecords<R> c)
+            return c.values(fields.fields.safeIndex(fieldIndex));
+        else
+            return collect(intoList(recordType().mapper(fieldIndex)));
     }
 
     @Override
     public final <U> List<U> getValues(int fieldIndex, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(fieldIndex, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(fieldIndex, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> List<U> getValues(int fieldIndex, Converter<?, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(fieldIndex, converter)));
+        return collectValues(intoList(recordType().mapper(fieldIndex, converter)));
     }
 
     @Override
     public final List<?> getValues(String fieldName) {
-        return collect(intoList(recordType().mapper(fieldName)));
+        if (records instanceof ColumnarRecords<R> c)
+            return c.values(indexOrFail(fields, fieldName));
+        else
+            return collect(intoList(recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> List<U> getValues(String fieldName, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> List<U> getValues(String fieldName, Converter<?, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(fieldName, converter)));
+        return collectValues(intoList(recordType().mapper(fieldName, converter)));
     }
 
     @Override
     public final List<?> getValues(Name fieldName) {
-        return collect(intoList(recordType().mapper(fieldName)));
+        if (records instanceof ColumnarRecords<R> c)
+            return c.values(indexOrFail(fields, fieldName));
+        else
+            return collect(intoList(recordType().mapper(fieldName)));
     }
 
     @Override
     public final <U> List<U> getValues(Name fieldName, Class<? extends U> type) {
-        return collect(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
+        return collectValues(intoList(recordType().mapper(fieldName, Tools.configuration(this), type)));
     }
 
     @Override
     public final <U> List<U> getValues(Name fieldName, Converter<?, ? extends U> converter) {
-        return collect(intoList(recordType().mapper(fieldName, converter)));
+        return collectValues(intoList(recordType().mapper(fieldName, converter)));
     }
 
     final void addRecord(R record) {
-        records.add(record);
+        if (records instanceof ColumnarRecords<R> c)
+            c.addValues(record);
+        else
+            records.add(record);
     }
 
     @Override
@@ -253,22 +299,22 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, V> intoMap(Field<K> key, Field<V> value) {
-        return collect(Records.intoMap(recordType().mapper(key), recordType().mapper(value)));
+        return collectValues(Records.intoMap(recordType().mapper(key), recordType().mapper(value)));
     }
 
     @Override
     public final Map<?, ?> intoMap(int keyFieldIndex, int valueFieldIndex) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
     }
 
     @Override
     public final Map<?, ?> intoMap(String keyFieldName, String valueFieldName) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
     public final Map<?, ?> intoMap(Name keyFieldName, Name valueFieldName) {
-        return collect(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return collectValues(Records.intoMap(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
@@ -463,22 +509,22 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
 
     @Override
     public final <K, V> Map<K, List<V>> intoGroups(Field<K> key, Field<V> value) {
-        return collect(Records.intoGroups(recordType().mapper(key), recordType().mapper(value)));
+        return collectValues(Records.intoGroups(recordType().mapper(key), recordType().mapper(value)));
     }
 
     @Override
     public final Map<?, List<?>> intoGroups(int keyFieldIndex, int valueFieldIndex) {
-        return (Map) collect(Records.intoGroups(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
+        return (Map) collectValues(Records.intoGroups(recordType().mapper(keyFieldIndex), recordType().mapper(valueFieldIndex)));
     }
 
     @Override
     public final Map<?, List<?>> intoGroups(String keyFieldName, String valueFieldName) {
-        return (Map) collect(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return (Map) collectValues(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
     public final Map<?, List<?>> intoGroups(Name keyFieldName, Name valueFieldName) {
-        return (Map) collect(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
+        return (Map) collectValues(Records.intoGroups(recordType().mapper(keyFieldName), recordType().mapper(valueFieldName)));
     }
 
     @Override
@@ -1036,8 +1082,11 @@ final class ResultImpl<R extends Record> extends AbstractResult<R> implements Re
     public final Result<R> intern(int... fieldIndexes) {
         for (int fieldIndex : fieldIndexes)
             if (fields.field(fieldIndex).getType() == String.class)
-                for (Record record : this)
-                    ((AbstractRecord) record).intern0(fieldIndex);
+                if (records instanceof ColumnarRecords<R> c)
+                    c.intern(fieldIndex);
+                else
+                    for (Record record : this)
+                        ((AbstractRecord) record).intern0(fieldIndex);
 
         return this;
     }
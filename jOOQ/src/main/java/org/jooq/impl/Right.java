@@ -210,4 +210,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Right.class, $string(), $length());
+    }
 }
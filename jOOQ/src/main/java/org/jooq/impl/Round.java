@@ -262,4 +262,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Round.class, $value(), $decimals());
+    }
 }
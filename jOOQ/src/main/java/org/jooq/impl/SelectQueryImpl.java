@@ -3892,6 +3892,11 @@ final class SelectQueryImpl<R extends Record> extends AbstractResultQuery<R> imp
             return (Class<? extends R>) recordType(getSelect().size());
     }
 
+    @Override
+    final Result<R> fetchSplit(Configuration c) {
+        return BatchedMultiset.fetch(this, c);
+    }
+
     final TableList getFrom() {
         return from;
     }
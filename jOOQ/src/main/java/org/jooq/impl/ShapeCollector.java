@@ -0,0 +1,407 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+package org.jooq.impl;
+
+import static java.lang.Boolean.TRUE;
+import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.conf.SettingsTools.getParamType;
+import static org.jooq.conf.SettingsTools.renderedSQLCaching;
+import static org.jooq.impl.DefaultBinding.InternalBinding.NEEDS_PRECISION_SCALE_ON_BIGDECIMAL;
+import static org.jooq.impl.Tools.map;
+import static org.jooq.impl.Tools.BooleanDataKey.DATA_FORCE_STATIC_STATEMENT;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jooq.BindContext;
+import org.jooq.Configuration;
+import org.jooq.DataType;
+import org.jooq.ExecuteContext;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.QueryPart;
+import org.jooq.QueryPartInternal;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.exception.ControlFlowSignal;
+import org.jooq.impl.DefaultBinding.InternalBinding;
+import org.jooq.impl.DefaultRenderContext.Rendered;
+
+/**
+ * A stub {@link BindContext} that collects the shape of a {@link QueryPart}
+ * tree while collecting its bind values.
+ * <p>
+ * The traversal emits the same SQL fragments, keywords, literals and
+ * {@link QueryPart} types as a {@link DefaultRenderContext} would, and appends
+ * them to an unambiguous token sequence, which is compared exactly when
+ * looking up a cached SQL string. The values of bind variables do not
+ * contribute to the shape, only their types and those properties that may
+ * influence the rendering of casts do, which is why a
+ * {@link CacheType#CACHE_RENDERED_SQL} lookup can reuse the SQL string of a
+ * previous execution and bind the values collected here instead.
+ *
+ * @author Lukas Eder
+ */
+final class ShapeCollector extends AbstractBindContext {
+
+    /**
+     * Unique identifiers of {@link QueryPart} types, which are shorter than
+     * their names.
+     */
+    private static final AtomicInteger       TYPE_ID    = new AtomicInteger();
+    private static final ClassValue<Integer> TYPE_IDS   = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return TYPE_ID.incrementAndGet();
+        }
+    };
+
+    final QueryPartList<Param<?>>            bindValues = new QueryPartList<>();
+    private final StringBuilder              shape      = new StringBuilder();
+
+    ShapeCollector(Configuration configuration, ExecuteContext ctx) {
+        super(configuration, ctx, null);
+    }
+
+    /**
+     * Whether {@link CacheType#CACHE_RENDERED_SQL} can be applied to queries
+     * executed in the given configuration.
+     * <p>
+     * {@link org.jooq.VisitListener} implementations may transform the
+     * rendered SQL based on state that is not part of the query, so a cached
+     * SQL string cannot be trusted in their presence.
+     */
+    static final boolean enabled(Configuration configuration) {
+        Settings settings = configuration.settings();
+
+        return renderedSQLCaching(settings)
+            && getParamType(settings) == INDEXED
+            && configuration.visitListenerProviders().length == 0;
+    }
+
+    /**
+     * The cache key for the shape collected so far.
+     */
+    final Object key() {
+        return new Shape(dialect(), configuration().settings(), shape.toString());
+    }
+
+    /**
+     * Whether the bind values that were collected by this traversal match the
+     * ones collected by an actual rendering of the same query, in which case
+     * the rendered SQL can be cached for later reuse.
+     */
+    final boolean matches(ExecuteContext ctx, Rendered rendered) {
+        if (rendered.bindValues == null
+            || rendered.bindValues.size() != bindValues.size()
+            || TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT)))
+            return false;
+
+        for (int i = 0; i < bindValues.size(); i++)
+            if (rendered.bindValues.get(i) != bindValues.get(i))
+                return false;
+
+        return true;
+    }
+
+    /**
+     * The cache entry for a rendered SQL string of this shape.
+     */
+    final Entry entry(Rendered rendered) {
+        return new Entry(rendered.sql, rendered.skipUpdateCounts, map(bindValues, p -> p.getDataType(), DataType[]::new));
+    }
+
+    /**
+     * Whether a cache entry can be used for the bind values collected by this
+     * traversal.
+     * <p>
+     * The entry's shape is equal to this traversal's shape, so this is only a
+     * sanity check.
+     */
+    final boolean matches(Entry entry) {
+        if (entry.types.length != bindValues.size())
+            return false;
+
+        for (int i = 0; i < entry.types.length; i++)
+            if (!entry.types[i].equals(bindValues.get(i).getDataType()))
+                return false;
+
+        return true;
+    }
+
+    // ------------------------------------------------------------------------
+    // Shape collection
+    // ------------------------------------------------------------------------
+
+    /**
+     * Abort the traversal, as the query's SQL string cannot be cached.
+     */
+    private static final void uncacheable() {
+        throw new UncacheableSignal();
+    }
+
+    private final void token(int value) {
+        shape.append('i').append(value).append(';');
+    }
+
+    private final void token(CharSequence s) {
+
+        // Strings are length prefixed, to keep the token sequence unambiguous
+        if (s == null)
+            shape.append('n');
+        else
+            shape.append('s').append(s.length()).append(':').append(s);
+    }
+
+    private final void token(char c) {
+        shape.append('c').append(c);
+    }
+
+    private final void token(DataType<?> type) {
+        token(type.getType().getName());
+        token(type.getTypeName());
+        token(type.length());
+        token(type.precision());
+        token(type.scale());
+    }
+
+    // ------------------------------------------------------------------------
+    // BindContext API
+    // ------------------------------------------------------------------------
+
+    @Override
+    protected final void bindInternal(QueryPartInternal internal) {
+        token(TYPE_IDS.get(internal.getClass()));
+
+        if (internal instanceof AbstractParam<?> p) {
+            token(p.getParamName());
+            token(p.getDataType());
+            token(p.getBinding().getClass().getName());
+
+            // Inline values are part of the SQL string, whereas for bind
+            // values, only some properties may influence the rendering of casts
+            if (p.isInline(this))
+                token(String.valueOf(p.getValue()));
+            else
+                bindValueShape(p);
+        }
+        else if (internal instanceof Param)
+            uncacheable();
+
+        // Plain SQL templates are rendered to a dummy RenderContext when
+        // binding, so their SQL string has to be collected explicitly
+        else if (internal instanceof SQLImpl s)
+            token(s.toString());
+
+        // Routines do not emit any SQL when binding
+        else if (internal instanceof AbstractRoutine)
+            uncacheable();
+
+        super.bindInternal(internal);
+    }
+
+    /**
+     * Collect those properties of a bind value that {@link DefaultBinding}
+     * may use to render a cast.
+     */
+    private final void bindValueShape(AbstractParam<?> p) {
+        Object value = p.getValue();
+        token(value == null ? 0 : 1);
+
+        // Custom bindings may render anything, depending on the value
+        if (!(p.getBinding() instanceof InternalBinding))
+            uncacheable();
+
+        DataType<?> sqlDataType = p.getDataType().getSQLDataType();
+
+        // [#822] Some dialects cast BigDecimal bind values to the precision and scale
+        //        of the value, and [#1028] OTHER bind values are cast to the type of
+        //        the value.
+        if (value != null && sqlDataType != null && (
+                sqlDataType.getType() == BigDecimal.class && NEEDS_PRECISION_SCALE_ON_BIGDECIMAL.contains(dialect())
+             || sqlDataType.getType() == Object.class
+        )) {
+
+            // Converted values would need to be converted again to find out
+            if (p.getType() != sqlDataType.getType())
+                uncacheable();
+            else if (value instanceof BigDecimal d) {
+                token(d.precision());
+                token(d.scale());
+            }
+            else
+                token(value.getClass().getName());
+        }
+    }
+
+    @Override
+    protected final BindContext bindValue0(Object value, Field<?> field) throws SQLException {
+        nextIndex();
+
+        if (field instanceof Param<?> p)
+            bindValues.add(p);
+        else
+            uncacheable();
+
+        return this;
+    }
+
+    @Override
+    public final BindContext keyword(String keyword) {
+        token(keyword);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(String sql) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(String sql, boolean literal) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sqlIndentStart(String sql) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sqlIndentEnd(String sql) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(char sql) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sqlIndentStart(char sql) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sqlIndentEnd(char sql) {
+        token(sql);
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(int sql) {
+        token(Integer.toString(sql));
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(long sql) {
+        token(Long.toString(sql));
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(float sql) {
+        token(Float.toString(sql));
+        return this;
+    }
+
+    @Override
+    public final BindContext sql(double sql) {
+        token(Double.toString(sql));
+        return this;
+    }
+
+    @Override
+    public final BindContext literal(String literal) {
+        token(literal);
+        return this;
+    }
+
+    /**
+     * A cached SQL string along with the data types of its bind values. The
+     * bind values themselves are not retained.
+     */
+    record Entry(String sql, int skipUpdateCounts, DataType<?>[] types) {}
+
+    /**
+     * A cache key for a query shape.
+     * <p>
+     * {@link Settings} are compared by identity, as their
+     * {@link Settings#hashCode()} is too expensive to be computed for each
+     * lookup, and as cached SQL strings must not be shared between derived
+     * {@link Configuration} instances with different settings.
+     */
+    private static final class Shape {
+        final SQLDialect dialect;
+        final Settings   settings;
+        final String     tokens;
+
+        Shape(SQLDialect dialect, Settings settings, String tokens) {
+            this.dialect = dialect;
+            this.settings = settings;
+            this.tokens = tokens;
+        }
+
+        @Override
+        public int hashCode() {
+            return tokens.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Shape s
+                && dialect == s.dialect
+                && settings == s.settings
+                && tokens.equals(s.tokens);
+        }
+    }
+
+    /**
+     * A signal that aborts the traversal of a query whose SQL string cannot
+     * be cached.
+     */
+    static final class UncacheableSignal extends ControlFlowSignal {}
+}
@@ -223,4 +223,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Shr.class, $value(), $count());
+    }
 }
@@ -174,4 +174,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Sin.class, $value());
+    }
 }
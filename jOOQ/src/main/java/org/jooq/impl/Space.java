@@ -220,4 +220,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Space.class, $count());
+    }
 }
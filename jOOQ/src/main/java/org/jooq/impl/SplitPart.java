@@ -306,4 +306,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.SplitPart.class, $string(), $delimiter(), $n());
+    }
 }
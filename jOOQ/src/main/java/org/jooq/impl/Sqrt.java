@@ -200,4 +200,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Sqrt.class, $value());
+    }
 }
@@ -178,4 +178,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Sub.class, $arg1(), $arg2());
+    }
 }
@@ -272,4 +272,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Substring.class, $string(), $startingPosition(), $length());
+    }
 }
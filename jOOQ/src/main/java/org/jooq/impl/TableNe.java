@@ -163,4 +163,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.TableNe.class, $arg1(), $arg2());
+    }
 }
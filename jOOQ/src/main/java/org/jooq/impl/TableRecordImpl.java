@@ -216,8 +216,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
                     int index = indexOrFail(fieldsRow(), field);
                     Object value = record.get(field);
 
-                    values[index] = value;
-                    originals[index] = value;
+                    value(index, value);
                 }
             }
 
@@ -269,8 +268,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(version);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
+            value(fieldIndex, value);
             changed.clear(fieldIndex);
         }
         if (timestamp != null) {
@@ -278,8 +276,7 @@ public class TableRecordImpl<R extends TableRecord<R>> extends AbstractQualified
             int fieldIndex = indexOrFail(fields, field);
             Object value = field.getDataType().convert(timestamp);
 
-            values[fieldIndex] = value;
-            originals[fieldIndex] = value;
+            value(fieldIndex, value);
             changed.clear(fieldIndex);
         }
     }
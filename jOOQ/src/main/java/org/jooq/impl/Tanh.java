@@ -221,4 +221,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Tanh.class, $value());
+    }
 }
@@ -217,4 +217,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.ToChar.class, $value(), $formatMask());
+    }
 }
@@ -202,4 +202,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.ToTimestamp.class, $value(), $formatMask());
+    }
 }
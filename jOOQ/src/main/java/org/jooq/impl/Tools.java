@@ -40,6 +40,8 @@ package org.jooq.impl;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.lang.Character.isJavaIdentifierPart;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.nCopies;
@@ -87,6 +89,7 @@ import static org.jooq.conf.SettingsTools.getBackslashEscaping;
 import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
 import static org.jooq.conf.ThrowExceptions.THROW_FIRST;
 import static org.jooq.conf.ThrowExceptions.THROW_NONE;
+import static org.jooq.impl.CacheType.REFLECTION_CACHE_CONVERTERS;
 import static org.jooq.impl.CacheType.REFLECTION_CACHE_GET_ANNOTATED_GETTER;
 import static org.jooq.impl.CacheType.REFLECTION_CACHE_GET_ANNOTATED_MEMBERS;
 import static org.jooq.impl.CacheType.REFLECTION_CACHE_GET_ANNOTATED_SETTERS;
@@ -195,10 +198,12 @@ import static org.jooq.impl.Tools.SimpleDataKey.DATA_BLOCK_NESTING;
 import static org.jooq.tools.StringUtils.defaultIfNull;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Connection;
@@ -1517,7 +1522,7 @@ final class Tools {
      * no converter could be provided.
      */
     static final <T, U> ContextConverter<T, U> converter(Configuration configuration, T instance, Class<T> tType, Class<U> uType) {
-        Converter<T, U> result = configuration(configuration).converterProvider().provide(tType, uType);
+        Converter<T, U> result = converter(configuration, tType, uType);
 
         if (result == null)
             result = CONFIG.converterProvider().provide(tType, uType);
@@ -1549,7 +1554,27 @@ final class Tools {
      * Get a converter from a {@link ConverterProvider}.
      */
     static final <T, U> ContextConverter<T, U> converterOrFail(Attachable attachable, T instance, Class<T> tType, Class<U> uType) {
-        return converterOrFail(configuration(attachable), instance, tType, uType);
+        return converterOrFail(attachable.configuration(), instance, tType, uType);
+    }
+
+    /**
+     * Get a converter from a configuration's {@link ConverterProvider} or
+     * <code>null</code> if no converter could be provided.
+     * <p>
+     * The outcome of the {@link DefaultConverterProvider} only depends on its
+     * argument types, so it is cached in the configuration, if available.
+     */
+    static final <T, U> ContextConverter<T, U> converter(Configuration configuration, Class<T> tType, Class<U> uType) {
+        ConverterProvider provider = configuration(configuration).converterProvider();
+
+        if (configuration != null && provider instanceof DefaultConverterProvider)
+            return Cache.run(configuration, () -> scopedOrNull(provider.provide(tType, uType)), REFLECTION_CACHE_CONVERTERS, () -> Cache.key(tType, uType));
+        else
+            return scopedOrNull(provider.provide(tType, uType));
+    }
+
+    private static final <T, U> ContextConverter<T, U> scopedOrNull(Converter<T, U> converter) {
+        return converter == null ? null : scoped(converter);
     }
 
     /**
@@ -3461,8 +3486,8 @@ final class Tools {
         int targetIndex = indexOrFail(target.fieldsRow(), targetField);
         int sourceIndex = indexOrFail(source.fieldsRow(), sourceField);
 
+        target.originals()[targetIndex] = targetType.convert(source.original(sourceIndex));
         target.values[targetIndex] = targetType.convert(source.get(sourceIndex));
-        target.originals[targetIndex] = targetType.convert(source.original(sourceIndex));
         target.changed.set(targetIndex, source.changed(sourceIndex));
     }
 
@@ -4332,6 +4357,118 @@ final class Tools {
         }, REFLECTION_CACHE_GET_MATCHING_GETTER, () -> Cache.key(type, name));
     }
 
+    /**
+     * A compiled read access to a POJO member or getter method.
+     */
+    @FunctionalInterface
+    interface Getter {
+        Object get(Object source) throws Exception;
+    }
+
+    /**
+     * A compiled write access to a POJO member or setter method.
+     */
+    @FunctionalInterface
+    interface Setter {
+        void set(Object target, Object value) throws Exception;
+    }
+
+    /**
+     * Compile a member into a {@link Getter}, using a {@link MethodHandle}
+     * where possible.
+     */
+    static final Getter getter(java.lang.reflect.Field member) {
+        try {
+            return getter(lookup()
+                .unreflectGetter(member)
+                .asType(methodType(Object.class, Object.class)));
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return member::get;
+        }
+    }
+
+    /**
+     * Compile a getter method into a {@link Getter}, using a
+     * {@link MethodHandle} where possible.
+     */
+    static final Getter getter(Method method) {
+        try {
+            return getter(lookup()
+                .unreflect(method)
+                .asType(methodType(Object.class, Object.class)));
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return source -> method.invoke(source);
+        }
+    }
+
+    private static final Getter getter(MethodHandle handle) {
+        return source -> {
+            try {
+                return (Object) handle.invokeExact(source);
+            }
+            catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * Compile a member into a {@link Setter}, using a {@link MethodHandle}
+     * where possible.
+     */
+    static final Setter setter(java.lang.reflect.Field member) {
+        try {
+            return setter(lookup()
+                .unreflectSetter(member)
+                .asType(methodType(void.class, Object.class, Object.class)));
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return member::set;
+        }
+    }
+
+    /**
+     * Compile a setter method into a {@link Setter}, using a
+     * {@link MethodHandle} where possible.
+     */
+    static final Setter setter(Method method) {
+        try {
+            return setter(lookup()
+                .unreflect(method)
+                .asFixedArity()
+                .asType(methodType(void.class, Object.class, Object.class)));
+        }
+        catch (IllegalAccessException | RuntimeException e) {
+            return (target, value) -> method.invoke(target, value);
+        }
+    }
+
+    private static final Setter setter(MethodHandle handle) {
+        return (target, value) -> {
+            try {
+                handle.invokeExact(target, value);
+            }
+            catch (Throwable e) {
+                throw rethrow(e);
+            }
+        };
+    }
+
+    /**
+     * Rethrow errors, and return other {@link Throwable} types thrown by a
+     * {@link MethodHandle} as an {@link Exception}.
+     */
+    private static final Exception rethrow(Throwable e) {
+        if (e instanceof Error x)
+            throw x;
+        else if (e instanceof Exception x)
+            return x;
+        else
+            return new UndeclaredThrowableException(e);
+    }
+
     /**
      * A wrapper class that re-implements {@link Method#equals(Object)} and
      * {@link Method#hashCode()} based only on the "source signature" (name,
@@ -6705,7 +6842,8 @@ final class Tools {
     static final NestedCollectionEmulation emulateMultiset(Configuration configuration) {
         NestedCollectionEmulation result = defaultIfNull(configuration.settings().getEmulateMultiset(), NestedCollectionEmulation.DEFAULT);
 
-        if (result == NestedCollectionEmulation.DEFAULT) {
+        // MULTISET subqueries that can't be batched are emulated by default
+        if (result == NestedCollectionEmulation.DEFAULT || result == NestedCollectionEmulation.BATCHED) {
             switch (configuration.family()) {
 
 
@@ -229,4 +229,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Translate.class, $string(), $from(), $to());
+    }
 }
@@ -246,4 +246,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Trunc.class, $value(), $decimals());
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Other licenses:
+ * -----------------------------------------------------------------------------
+ * Commercial licenses for this work are available. These replace the above
+ * ASL 2.0 and offer limited warranties, support, maintenance, and commercial
+ * database integrations.
+ *
+ * For more information, please visit: http://www.jooq.org/licenses
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ *
+ */
+
+package org.jooq.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * A {@link Writer} that encodes characters to UTF-8 directly into a byte
+ * buffer, which is written to an {@link OutputStream} when it is full.
+ * <p>
+ * This is a faster alternative to {@link OutputStreamWriter}, which encodes
+ * characters using a general purpose {@link java.nio.charset.CharsetEncoder}.
+ * Like {@link OutputStreamWriter}, malformed surrogates are encoded as
+ * <code>'?'</code>.
+ *
+ * @author Lukas Eder
+ */
+final class UTF8Writer extends Writer {
+
+    private final OutputStream stream;
+    private final byte[]       buffer = new byte[8192];
+    private int                position;
+    private char               highSurrogate;
+
+    UTF8Writer(OutputStream stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    public final void write(int c) throws IOException {
+        write0((char) c);
+    }
+
+    @Override
+    public final void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++)
+            write0(cbuf[i]);
+    }
+
+    @Override
+    public final void write(String str, int off, int len) throws IOException {
+        for (int i = off; i < off + len; i++)
+            write0(str.charAt(i));
+    }
+
+    @Override
+    public final Writer append(CharSequence csq) throws IOException {
+        if (csq == null)
+            write("null");
+        else
+            for (int i = 0; i < csq.length(); i++)
+                write0(csq.charAt(i));
+
+        return this;
+    }
+
+    private final void write0(char c) throws IOException {
+
+        // Make room for the longest encoding of a character, or of a
+        // malformed high surrogate followed by a character
+        if (position > buffer.length - 5)
+            flushBuffer();
+
+        if (highSurrogate != 0) {
+            char h = highSurrogate;
+            highSurrogate = 0;
+
+            if (Character.isLowSurrogate(c)) {
+                int cp = Character.toCodePoint(h, c);
+                buffer[position++] = (byte) (0xF0 | (cp >> 18));
+                buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+                return;
+            }
+            else
+                buffer[position++] = '?';
+        }
+
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        }
+        else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        }
+        else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        }
+        else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private final void flushBuffer() throws IOException {
+        if (position > 0) {
+            stream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public final void flush() throws IOException {
+        flushBuffer();
+        stream.flush();
+    }
+
+    @Override
+    public final void close() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            write0('?');
+        }
+
+        flush();
+        stream.close();
+    }
+}
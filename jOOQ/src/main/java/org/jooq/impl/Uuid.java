@@ -280,4 +280,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Uuid.class);
+    }
 }
@@ -153,6 +153,7 @@ final class Val<T> extends AbstractParam<T> implements UEmpty {
     final <U> Val<U> convertTo0(DataType<U> type) {
         Val<U> w = new Val<>(type.convert(getValue()), type, getParamName());
         w.setInline0(isInline());
+        ParsingConnection.converted(this, w);
         return w;
     }
 
@@ -238,4 +238,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.WidthBucket.class, $field(), $low(), $high(), $buckets());
+    }
 }
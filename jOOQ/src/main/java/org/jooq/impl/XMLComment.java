@@ -176,4 +176,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.XMLComment.class, $comment());
+    }
 }
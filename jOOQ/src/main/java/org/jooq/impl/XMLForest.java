@@ -171,4 +171,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.XMLForest.class, $fields());
+    }
 }
@@ -123,8 +123,11 @@ final class XMLHandler<R extends Record> extends DefaultHandler {
                 }
             }
 
-            r.from(values);
-            r.changed(false);
+            // Convert the values directly into the record, without unmapping
+            // them into an intermediate record first
+            for (int i = 0; i < values.size() && i < row.size(); i++)
+                ((AbstractRecord) r).value(i, row.field(i).getDataType().convert(values.get(i)));
+
             return r;
         }
     }
@@ -179,4 +179,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.XMLConcat.class, $args());
+    }
 }
@@ -204,4 +204,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.XMLPi.class, $target(), $content());
+    }
 }
@@ -216,4 +216,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.XMLSerialize.class, $content(), $value(), $type());
+    }
 }
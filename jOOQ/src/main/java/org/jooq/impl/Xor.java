@@ -187,4 +187,9 @@ implements
         else
             return super.equals(that);
     }
+
+    @Override
+    final int hashCode0() {
+        return hash(QOM.Xor.class, $arg1(), $arg2());
+    }
 }